@@ -0,0 +1,196 @@
+package infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AlbumDetailsDto;
+import com.songify.domain.crud.dto.AlbumDto;
+import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+class AlbumQueryCountIntegrationTest {
+
+    private static final int ALBUMS = 5;
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("GET /albums should execute single statement regardless of number of albums")
+    public void should_execute_single_statement_when_all_albums_are_requested() throws Exception {
+        // given
+        for (int i = 0; i < ALBUMS; i++) {
+            addAlbumWithTwoSongs("all albums " + i);
+        }
+        int albumsInDb = songifyCrudFacade.findAllAlbums().size();
+        statistics.clear();
+        // when
+        mockMvc.perform(get("/albums")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.albums", hasSize(albumsInDb)));
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAlbumsByArtistId should execute single statement regardless of number of albums")
+    public void should_execute_single_statement_when_albums_of_artist_are_requested() {
+        // given
+        ArtistDto artist = songifyCrudFacade.addArtist(ArtistRequestDto.builder()
+                .name("query count artist")
+                .build());
+        for (int i = 0; i < ALBUMS; i++) {
+            AlbumDto album = addAlbumWithTwoSongs("artist album " + i);
+            songifyCrudFacade.addArtistToAlbum(artist.id(), album.id());
+        }
+        statistics.clear();
+        // when
+        Set<AlbumDto> albums = songifyCrudFacade.findAlbumsByArtistId(artist.id());
+        // then
+        assertThat(albums).hasSize(ALBUMS);
+        assertThat(albums).allSatisfy(album -> assertThat(album.songsIds()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /albums/{id} should look up version tag and load album details with one statement each")
+    public void should_execute_single_statement_when_album_details_are_requested() throws Exception {
+        // given
+        ArtistDto artist = songifyCrudFacade.addArtist(ArtistRequestDto.builder()
+                .name("album details artist")
+                .build());
+        AlbumDto album = addAlbumWithTwoSongs("album details");
+        songifyCrudFacade.addArtistToAlbum(artist.id(), album.id());
+        statistics.clear();
+        // when
+        mockMvc.perform(get("/albums/" + album.id())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.songs", hasSize(2)))
+                .andExpect(jsonPath("$.songs[0].genre.name").exists())
+                .andExpect(jsonPath("$.artists[0].id", is(artist.id().intValue())));
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Album details returned by facade should be rendered without any further SQL")
+    public void should_not_execute_any_statement_when_album_details_are_serialized_outside_transaction() throws Exception {
+        // given
+        ArtistDto artist = songifyCrudFacade.addArtist(ArtistRequestDto.builder()
+                .name("detached album artist")
+                .build());
+        AlbumDto album = addAlbumWithTwoSongs("detached album");
+        songifyCrudFacade.addArtistToAlbum(artist.id(), album.id());
+        AlbumDetailsDto details = songifyCrudFacade.findAlbumByIdWithArtistAndSongs(album.id());
+        statistics.clear();
+        // when
+        String json = objectMapper.writeValueAsString(details);
+        // then
+        assertThat(json).contains("detached album song 1", "detached album song 2", "detached album artist");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Adding album should check and assign all songs with one statement each regardless of number of songs")
+    public void should_execute_constant_number_of_statements_when_album_with_many_songs_is_added() {
+        // given
+        Set<Long> songIds = IntStream.range(0, 40)
+                .mapToObj(i -> songifyCrudFacade.addSong(song("many songs album song " + i)).id())
+                .collect(Collectors.toSet());
+        statistics.clear();
+        // when
+        AlbumDto album = songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .title("many songs album")
+                .releaseDate(Instant.now())
+                .songIds(songIds)
+                .build());
+        long statements = statistics.getPrepareStatementCount();
+        // then
+        // song ids check, album sequence, album insert and song.album_id update
+        assertThat(statements).isLessThanOrEqualTo(4);
+        assertThat(songifyCrudFacade.findAlbumById(album.id()).songsIds()).containsExactlyInAnyOrderElementsOf(songIds);
+    }
+
+    private AlbumDto addAlbumWithTwoSongs(final String title) {
+        SongDto first = songifyCrudFacade.addSong(song(title + " song 1"));
+        SongDto second = songifyCrudFacade.addSong(song(title + " song 2"));
+        AlbumDto album = songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .title(title)
+                .releaseDate(Instant.now())
+                .songIds(Set.of(first.id()))
+                .build());
+        return songifyCrudFacade.addSongToAlbum(album.id(), second.id());
+    }
+
+    private static SongRequestDto song(final String name) {
+        return SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build();
+    }
+}
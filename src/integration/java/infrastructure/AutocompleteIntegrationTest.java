@@ -0,0 +1,112 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+class AutocompleteIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("Should suggest rows written outside the application once the index is rebuilt at startup")
+    public void should_suggest_rows_written_outside_the_application_after_startup_rebuild() throws Exception {
+        // given
+        jdbcTemplate.update("insert into artist (name) values ('Startup Zeppelin')");
+        jdbcTemplate.update("insert into album (title) values ('Startup Zenith')");
+        jdbcTemplate.update("insert into song (name) values ('startup zebra')");
+        autocomplete("startup z")
+                .andExpect(jsonPath("$.suggestions", empty()));
+        // when
+        applicationContext.publishEvent(new ApplicationReadyEvent(
+                new SpringApplication(SongifyApplication.class), new String[0], applicationContext, Duration.ZERO));
+        // then
+        autocomplete("startup z")
+                .andExpect(jsonPath("$.suggestions[*].name", contains("startup zebra", "Startup Zenith", "Startup Zeppelin")))
+                .andExpect(jsonPath("$.suggestions[*].type", contains("SONG", "ALBUM", "ARTIST")));
+    }
+
+    @Test
+    @DisplayName("Should follow committed adds, renames and deletes and cap suggestions at the requested limit")
+    public void should_follow_committed_changes_and_cap_suggestions_at_requested_limit() throws Exception {
+        // given
+        SongDto first = addSong("Autocomplete Anthem");
+        SongDto second = addSong("Autocomplete Ballad");
+        addSong("Autocomplete Chorus");
+        // when
+        songifyCrudFacade.updateSongById(first.id(), new SongDto(first.id(), "Autocomplete Dirge", null));
+        songifyCrudFacade.deleteSongById(second.id());
+        // then
+        autocomplete("AUTOCOMPLETE ")
+                .andExpect(jsonPath("$.suggestions[*].name", contains("Autocomplete Chorus", "Autocomplete Dirge")));
+        mockMvc.perform(get("/autocomplete").param("prefix", "autocomplete").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions", hasSize(1)))
+                .andExpect(jsonPath("$.suggestions[0].name").value("Autocomplete Chorus"));
+    }
+
+    private ResultActions autocomplete(final String prefix) throws Exception {
+        return mockMvc.perform(get("/autocomplete").param("prefix", prefix))
+                .andExpect(status().isOk());
+    }
+
+    private SongDto addSong(final String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+}
@@ -0,0 +1,165 @@
+package infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AlbumDto;
+import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+class CatalogExportIntegrationTest {
+
+    private static final String TRICKY_SONG_NAME = "Say \"Hello\", World\nAgain";
+    private static final String TRICKY_ALBUM_TITLE = "Greatest, \"Hits\"";
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should stream songs and albums as one JSON document per line When format is ndjson")
+    public void should_stream_songs_and_albums_as_json_lines_when_format_is_ndjson() throws Exception {
+        // given
+        SongDto song = addSong(TRICKY_SONG_NAME);
+        AlbumDto album = addAlbum(TRICKY_ALBUM_TITLE, song);
+        // when
+        List<JsonNode> songs = readLines(export("/export/songs", "ndjson", MediaType.APPLICATION_NDJSON));
+        List<JsonNode> albums = readLines(export("/export/albums", "ndjson", MediaType.APPLICATION_NDJSON));
+        // then
+        JsonNode exportedSong = findById(songs, song.id());
+        assertThat(exportedSong.get("name").asText()).isEqualTo(TRICKY_SONG_NAME);
+        assertThat(exportedSong.get("duration").asLong()).isEqualTo(200L);
+        assertThat(exportedSong.get("language").asText()).isEqualTo("ENGLISH");
+        assertThat(exportedSong.get("genre").asText()).isEqualTo("default");
+        assertThat(exportedSong.get("albumId").asLong()).isEqualTo(album.id());
+        assertThat(findById(albums, album.id()).get("title").asText()).isEqualTo(TRICKY_ALBUM_TITLE);
+        assertThat(songs).extracting(line -> line.get("id").asLong()).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should stream songs and albums with a header row and quoted fields When format is csv")
+    public void should_stream_songs_and_albums_with_header_and_escaped_fields_when_format_is_csv() throws Exception {
+        // given
+        SongDto song = addSong(TRICKY_SONG_NAME);
+        AlbumDto album = addAlbum(TRICKY_ALBUM_TITLE, song);
+        // when
+        String songs = export("/export/songs", "csv", new MediaType("text", "csv"));
+        String albums = export("/export/albums", "csv", new MediaType("text", "csv"));
+        // then
+        assertThat(songs).startsWith("id,name,releaseDate,duration,language,genre,albumId\n");
+        assertThat(songs).contains("\n" + song.id() + ",\"Say \"\"Hello\"\", World\nAgain\",");
+        assertThat(songs).contains(",200,ENGLISH,default," + album.id() + "\n");
+        assertThat(albums).startsWith("id,title,releaseDate\n");
+        assertThat(albums).contains("\n" + album.id() + ",\"Greatest, \"\"Hits\"\"\",");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export format and non admin users")
+    public void should_reject_unknown_format_and_non_admin_users() throws Exception {
+        // given && when && then
+        mockMvc.perform(get("/export/songs").param("format", "xml").with(admin()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Export format: xml is not supported"));
+        mockMvc.perform(get("/export/songs")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER"))))
+                .andExpect(status().isForbidden());
+    }
+
+    private String export(final String path, final String format, final MediaType mediaType) throws Exception {
+        MvcResult started = mockMvc.perform(get(path).param("format", format).with(admin()))
+                .andExpect(status().isOk())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> readLines(final String response) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static JsonNode findById(final List<JsonNode> lines, final Long id) {
+        return lines.stream()
+                .filter(line -> line.get("id").asLong() == id)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private SongDto addSong(final String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+
+    private AlbumDto addAlbum(final String title, final SongDto song) {
+        return songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .title(title)
+                .releaseDate(Instant.now())
+                .songIds(Set.of(song.id()))
+                .build());
+    }
+
+    private static RequestPostProcessor admin() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+}
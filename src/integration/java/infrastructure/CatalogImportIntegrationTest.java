@@ -0,0 +1,138 @@
+package infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.SongifyApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+class CatalogImportIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("songify.import.chunk-size", () -> "2");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should report every record by its line When records are invalid, malformed or roll back their chunk")
+    public void should_report_every_record_by_its_line_when_records_fail_in_different_ways() throws Exception {
+        // given
+        String tooLongName = "Import Overflow " + "x".repeat(300);
+        String body = String.join("\n",
+                """
+                {"name":"Import Alpha","albums":[{"title":"Import Alpha Record","releaseDate":"2024-03-15T13:55:21Z","songs":[{"name":"Import Alpha One","duration":200,"language":"ENGLISH"},{"name":"Import Alpha Two","duration":180,"language":"ENGLISH"}]}]}""",
+                "",
+                "{\"name\":",
+                "{\"name\":\"  \"}",
+                "{\"name\":\"Import Bravo\"}",
+                "{\"name\":\"" + tooLongName + "\"}",
+                "{\"name\":\"Import Charlie\"}",
+                "{\"name\":\"Import Delta\"}");
+        // when
+        String response = mockMvc.perform(post("/import")
+                        .with(admin())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        // then
+        List<JsonNode> report = readLines(response);
+        assertThat(report)
+                .extracting(result -> result.get("line").asLong(), result -> result.get("status").asText())
+                .containsExactly(
+                        tuple(3L, "FAILED"),
+                        tuple(4L, "FAILED"),
+                        tuple(1L, "IMPORTED"),
+                        tuple(5L, "IMPORTED"),
+                        tuple(6L, "FAILED"),
+                        tuple(7L, "IMPORTED"),
+                        tuple(8L, "IMPORTED"));
+        assertThat(report.get(0).get("message").asText()).startsWith("malformed record: ");
+        assertThat(report.get(1).get("message").asText()).isEqualTo("artist name must not be blank");
+        assertThat(report.get(2).get("artistId").isIntegralNumber()).isTrue();
+        assertThat(report.get(2).get("albums").asInt()).isEqualTo(1);
+        assertThat(report.get(2).get("songs").asInt()).isEqualTo(2);
+        assertThat(report.get(2).get("message").isNull()).isTrue();
+        assertThat(report.get(4).get("message").asText()).startsWith("record rolled back: ");
+        assertThat(report.get(4).get("artistId").isNull()).isTrue();
+        assertThat(artistNames()).containsExactlyInAnyOrder("Import Alpha", "Import Bravo", "Import Charlie", "Import Delta");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM song WHERE name LIKE 'Import Alpha %'", Long.class))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Import should be restricted to admins")
+    public void should_reject_import_when_not_admin() throws Exception {
+        // given
+        String body = "{\"name\":\"Import Forbidden\"}";
+        // when && then
+        mockMvc.perform(post("/import")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER")))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+        assertThat(artistNames()).doesNotContain("Import Forbidden");
+    }
+
+    private List<JsonNode> readLines(final String response) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private List<String> artistNames() {
+        return jdbcTemplate.queryForList("SELECT name FROM artist WHERE name LIKE 'Import %'", String.class);
+    }
+
+    private static RequestPostProcessor admin() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+}
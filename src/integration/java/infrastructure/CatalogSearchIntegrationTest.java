@@ -0,0 +1,142 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.SearchPageDto;
+import com.songify.domain.crud.dto.SearchResultDto;
+import com.songify.domain.crud.dto.SearchResultType;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+class CatalogSearchIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Test
+    @DisplayName("Should rank exact name above partial matches across songs, artists and albums")
+    public void should_rank_exact_name_above_partial_matches_across_all_types() {
+        // given
+        songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("Queen").build());
+        SongDto killerQueen = addSong("Killer Queen");
+        addAlbum("Queen of the Night at the Opera", killerQueen);
+        addSong("Radio Ga Ga");
+        // when
+        SearchPageDto page = songifyCrudFacade.search("queen", 0, 10);
+        // then
+        assertThat(page.results())
+                .extracting(SearchResultDto::type, SearchResultDto::name)
+                .containsExactly(
+                        tuple(SearchResultType.ARTIST, "Queen"),
+                        tuple(SearchResultType.SONG, "Killer Queen"),
+                        tuple(SearchResultType.ALBUM, "Queen of the Night at the Opera"));
+        assertThat(page.results())
+                .extracting(SearchResultDto::rank)
+                .isSortedAccordingTo((first, second) -> Double.compare(second, first));
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should find names by trigram similarity When query contains typos")
+    public void should_find_names_by_trigram_similarity_when_query_contains_typos() {
+        // given
+        addSong("Bohemian Rhapsody");
+        songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("Motorhead").build());
+        // when
+        SearchPageDto songTypo = songifyCrudFacade.search("Bohemain Rhapsdy", 0, 10);
+        SearchPageDto artistTypo = songifyCrudFacade.search("motrhead", 0, 10);
+        // then
+        assertThat(songTypo.results())
+                .extracting(SearchResultDto::type, SearchResultDto::name)
+                .containsExactly(tuple(SearchResultType.SONG, "Bohemian Rhapsody"));
+        assertThat(artistTypo.results())
+                .extracting(SearchResultDto::type, SearchResultDto::name)
+                .containsExactly(tuple(SearchResultType.ARTIST, "Motorhead"));
+    }
+
+    @Test
+    @DisplayName("Should page through merged results of all types without gaps or duplicates")
+    public void should_page_through_merged_results_of_all_types_without_gaps_or_duplicates() {
+        // given
+        SongDto first = addSong("Paginated Tune 1");
+        addSong("Paginated Tune 2");
+        addSong("Paginated Tune 3");
+        songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("Paginated Band 1").build());
+        songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("Paginated Band 2").build());
+        addAlbum("Paginated Record 1", first);
+        addAlbum("Paginated Record 2", first);
+        // when
+        List<SearchPageDto> pages = List.of(
+                songifyCrudFacade.search("paginated", 0, 3),
+                songifyCrudFacade.search("paginated", 1, 3),
+                songifyCrudFacade.search("paginated", 2, 3));
+        // then
+        assertThat(pages).extracting(SearchPageDto::hasNext).containsExactly(true, true, false);
+        assertThat(pages).extracting(page -> page.results().size()).containsExactly(3, 3, 1);
+        List<SearchResultDto> all = new ArrayList<>();
+        pages.forEach(page -> all.addAll(page.results()));
+        assertThat(all)
+                .extracting(SearchResultDto::type, SearchResultDto::name)
+                .containsExactlyInAnyOrder(
+                        tuple(SearchResultType.SONG, "Paginated Tune 1"),
+                        tuple(SearchResultType.SONG, "Paginated Tune 2"),
+                        tuple(SearchResultType.SONG, "Paginated Tune 3"),
+                        tuple(SearchResultType.ARTIST, "Paginated Band 1"),
+                        tuple(SearchResultType.ARTIST, "Paginated Band 2"),
+                        tuple(SearchResultType.ALBUM, "Paginated Record 1"),
+                        tuple(SearchResultType.ALBUM, "Paginated Record 2"));
+        assertThat(all)
+                .extracting(SearchResultDto::rank)
+                .isSortedAccordingTo((left, right) -> Double.compare(right, left));
+        assertThat(songifyCrudFacade.search("paginated", Integer.MAX_VALUE, 3).results()).isEmpty();
+    }
+
+    private SongDto addSong(final String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+
+    private void addAlbum(final String title, final SongDto song) {
+        songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .title(title)
+                .releaseDate(Instant.now())
+                .songIds(Set.of(song.id()))
+                .build());
+    }
+}
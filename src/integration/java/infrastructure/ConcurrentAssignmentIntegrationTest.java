@@ -0,0 +1,92 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AlbumDto;
+import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+class ConcurrentAssignmentIntegrationTest {
+
+    private static final int THREADS = 8;
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Test
+    @DisplayName("Parallel artist and song assignments to the same album should all succeed without optimistic lock failures")
+    public void should_assign_artists_and_songs_to_same_album_in_parallel() {
+        // given
+        AlbumDto album = songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .title("popular album")
+                .releaseDate(Instant.now())
+                .songIds(Set.of(addSong("popular album first song").id()))
+                .build());
+        List<Long> artistIds = IntStream.range(0, THREADS)
+                .mapToObj(i -> songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("parallel artist " + i).build()).id())
+                .toList();
+        List<Long> songIds = IntStream.range(0, THREADS)
+                .mapToObj(i -> addSong("parallel song " + i).id())
+                .toList();
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, THREADS)
+                            .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                                songifyCrudFacade.addArtistToAlbum(artistIds.get(i), album.id());
+                                songifyCrudFacade.addArtistToAlbum(artistIds.get(i), album.id());
+                                songifyCrudFacade.addSongToAlbum(album.id(), songIds.get(i));
+                            }, executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+        // then
+        assertThat(songifyCrudFacade.findAlbumByIdWithArtistAndSongs(album.id()).artists()).hasSize(THREADS);
+        assertThat(songifyCrudFacade.findAlbumById(album.id()).songsIds()).hasSize(THREADS + 1);
+    }
+
+    private SongDto addSong(final String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+}
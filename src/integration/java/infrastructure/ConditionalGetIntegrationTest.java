@@ -0,0 +1,117 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+class ConditionalGetIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Test
+    @DisplayName("Should answer 304 without body When song version did not change and 200 with new ETag after update")
+    public void should_answer_not_modified_when_song_version_did_not_change() throws Exception {
+        // given
+        SongDto song = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("etag song")
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        String eTag = mockMvc.perform(get("/songs/" + song.id()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        // when
+        mockMvc.perform(get("/songs/" + song.id()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        songifyCrudFacade.updateSongById(song.id(), new SongDto(song.id(), "renamed etag song", null));
+        // then
+        String newETag = mockMvc.perform(get("/songs/" + song.id()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for artists page When no artist on that page changed")
+    public void should_answer_not_modified_for_artists_page_when_no_artist_on_that_page_changed() throws Exception {
+        // given
+        ArtistDto first = songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("etag artist 1").build());
+        songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("etag artist 2").build());
+        ArtistDto third = songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("etag artist 3").build());
+        String eTag = getFirstArtistsPage()
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        // when
+        songifyCrudFacade.updateArtistNameById(third.id(), "etag artist 3 renamed");
+        // then
+        getFirstArtistsPage(eTag)
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/artists").param("page", "1").param("size", "2").param("sort", "id")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+        songifyCrudFacade.updateArtistNameById(first.id(), "etag artist 1 renamed");
+        getFirstArtistsPage(eTag)
+                .andExpect(status().isOk());
+    }
+
+    // artists created by this test are the only ones in the database, so the first page holds the first two of them
+    private ResultActions getFirstArtistsPage(String... ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get("/artists").param("page", "0").param("size", "2").param("sort", "id");
+        if (ifNoneMatch.length > 0) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch[0]);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -0,0 +1,69 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest(classes = SongifyApplication.class, properties = {
+        "songify.datasource.connection-limit.enabled=true",
+        "songify.datasource.connection-limit.permits=2",
+        "songify.datasource.connection-limit.acquire-timeout=300ms"
+})
+@ActiveProfiles("integration")
+@Testcontainers
+class ConnectionLimitIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Callers beyond the permit count should wait for a released connection instead of reaching the pool")
+    public void should_hand_out_at_most_permitted_connections_when_connection_limit_is_enabled() throws Exception {
+        // given
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        try {
+            // when
+            Throwable throwable = catchThrowable(() -> dataSource.getConnection());
+            double inUse = meterRegistry.get("songify.datasource.connection.limit.in.use").gauge().value();
+            first.close();
+            // then
+            assertThat(throwable).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(throwable.getMessage()).startsWith("Connection permit not available after 300ms");
+            assertThat(inUse).isEqualTo(2);
+            try (Connection third = dataSource.getConnection()) {
+                assertThat(third.isValid(1)).isTrue();
+            }
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+class JfrRecordingIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Admin should record facade operation and cache access events and download them as a JFR file")
+    public void should_record_facade_and_cache_events_when_admin_starts_and_downloads_recording() throws Exception {
+        // given
+        String startResponse = mockMvc.perform(post("/admin/jfr/recordings")
+                        .param("durationSeconds", "30")
+                        .with(admin()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long recordingId = objectMapper.readTree(startResponse).get("id").asLong();
+        SongDto song = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("recorded song")
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.findSongDtoById(song.id());
+        songifyCrudFacade.findSongDtoById(song.id());
+        // when
+        MvcResult download = mockMvc.perform(get("/admin/jfr/recordings/" + recordingId).with(admin()))
+                .andExpect(status().isOk())
+                .andReturn();
+        byte[] recording = mockMvc.perform(asyncDispatch(download))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        // then
+        Path file = Files.createTempFile("songify", ".jfr");
+        Files.write(file, recording);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.songify.FacadeOperation"))
+                .extracting(event -> event.getString("operation"), event -> event.getString("entityIds"))
+                .contains(tuple("findSongDtoById", song.id().toString()));
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.songify.FacadeOperation"))
+                .filteredOn(event -> event.getString("operation").equals("findSongDtoById"))
+                .as("the cache miss and the cache hit are both recorded")
+                .hasSize(2);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.songify.CacheAccess"))
+                .extracting(event -> event.getBoolean("hit"))
+                .contains(true, false);
+        mockMvc.perform(delete("/admin/jfr/recordings/" + recordingId).with(admin()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/admin/jfr/recordings/" + recordingId).with(admin()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Recording endpoints should be restricted to admins")
+    public void should_reject_recording_requests_when_not_admin() throws Exception {
+        // given && when && then
+        mockMvc.perform(post("/admin/jfr/recordings"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/admin/jfr/recordings")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER"))))
+                .andExpect(status().isForbidden());
+    }
+
+    private static RequestPostProcessor admin() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+}
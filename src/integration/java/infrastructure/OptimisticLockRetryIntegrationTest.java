@@ -0,0 +1,92 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.ArtistRequestDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = SongifyApplication.class, properties = "songify.retry.optimistic-lock.max-attempts=20")
+@ActiveProfiles("integration")
+@Testcontainers
+class OptimisticLockRetryIntegrationTest {
+
+    private static final int THREADS = 8;
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Concurrent renames of the same artist should all succeed after retrying lost version races")
+    public void should_retry_concurrent_renames_of_same_artist_until_they_succeed() {
+        // given
+        ArtistDto artist = songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("contended artist").build());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        // when
+        List<ArtistDto> renamed;
+        try {
+            List<CompletableFuture<ArtistDto>> futures = IntStream.range(0, THREADS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        awaitQuietly(start);
+                        return songifyCrudFacade.updateArtistNameById(artist.id(), "renamed " + i);
+                    }, executor))
+                    .toList();
+            start.countDown();
+            renamed = futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } finally {
+            executor.shutdown();
+        }
+        // then
+        assertThat(renamed).hasSize(THREADS);
+        assertThat(meterRegistry.find("songify.optimistic.lock.conflicts").counters())
+                .extracting(Counter::count)
+                .as("renames released together must have lost version races")
+                .anyMatch(count -> count > 0);
+        assertThat(meterRegistry.find("songify.optimistic.lock.exhausted").counters())
+                .extracting(Counter::count)
+                .allMatch(count -> count == 0);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
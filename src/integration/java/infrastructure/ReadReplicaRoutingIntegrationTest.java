@@ -0,0 +1,149 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA_APPLICATION_NAME = "songify-replica";
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // the "replica" is the same database reached through a second, read-only pool tagged with its own application_name
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("songify.datasource.replica.enabled", () -> "true");
+        registry.add("songify.datasource.replica.url",
+                () -> postgreSQLContainer.getJdbcUrl() + "&ApplicationName=" + REPLICA_APPLICATION_NAME);
+        registry.add("songify.datasource.replica.username", postgreSQLContainer::getUsername);
+        registry.add("songify.datasource.replica.password", postgreSQLContainer::getPassword);
+        registry.add("songify.datasource.connection-limit.enabled", () -> "true");
+    }
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should route read-only transactions to replica and read-write transactions to primary")
+    public void should_route_read_only_transactions_to_replica_pool() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        // when
+        String readOnlyApplicationName = readOnly.execute(status -> currentApplicationName());
+        String readWriteApplicationName = readWrite.execute(status -> currentApplicationName());
+        // then
+        assertThat(readOnlyApplicationName).isEqualTo(REPLICA_APPLICATION_NAME);
+        assertThat(readWriteApplicationName).isNotEqualTo(REPLICA_APPLICATION_NAME);
+    }
+
+    @Test
+    @DisplayName("Should write through primary and read back through replica")
+    public void should_write_to_primary_and_read_from_replica() {
+        // given
+        SongDto song = addSong("replicated song");
+        // when
+        List<SongLookupDto> fromReplica = songifyCrudFacade.findSongsByIds(List.of(song.id()));
+        // then
+        assertThat(fromReplica).extracting(lookup -> lookup.song().name()).containsExactly("replicated song");
+    }
+
+    @Test
+    @DisplayName("Should load song cache entries from primary so a lagging replica is never cached")
+    public void should_load_cached_song_from_primary_when_replica_is_enabled() {
+        // given
+        SongDto song = addSong("cached from primary song");
+        long replicaConnectionsBefore = replicaConnectionUsages();
+        long primaryConnectionsBefore = totalConnectionUsages() - replicaConnectionsBefore;
+        // when
+        SongDto cached = songifyCrudFacade.findSongDtoById(song.id());
+        // then
+        assertThat(cached.name()).isEqualTo("cached from primary song");
+        assertThat(replicaConnectionUsages()).isEqualTo(replicaConnectionsBefore);
+        assertThat(totalConnectionUsages() - replicaConnectionUsages()).isGreaterThan(primaryConnectionsBefore);
+    }
+
+    @Test
+    @DisplayName("Should take connection permits from the pool that serves the transaction When connection limit is enabled")
+    public void should_limit_primary_and_replica_pools_separately_when_connection_limit_is_enabled() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // when
+        double[] permitsInUse = readOnly.execute(status -> {
+            currentApplicationName();
+            return new double[]{permitsInUse("replicaDataSource"), permitsInUse("primaryDataSource")};
+        });
+        // then
+        assertThat(permitsInUse).containsExactly(1, 0);
+        assertThat(permitsInUse("replicaDataSource")).isZero();
+    }
+
+    private double permitsInUse(final String pool) {
+        return meterRegistry.get("songify.datasource.connection.limit.in.use").tag("pool", pool).gauge().value();
+    }
+
+    private SongDto addSong(final String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+
+    private long replicaConnectionUsages() {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", "replica").timer();
+        return usage == null ? 0 : usage.count();
+    }
+
+    private long totalConnectionUsages() {
+        return meterRegistry.find("hikaricp.connections.usage").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private String currentApplicationName() {
+        return (String) entityManager.createNativeQuery("select current_setting('application_name')")
+                .getSingleResult();
+    }
+}
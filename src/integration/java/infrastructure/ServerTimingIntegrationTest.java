@@ -0,0 +1,157 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class ServerTimingIntegrationTest {
+
+    private static final Pattern DB_COUNT = Pattern.compile("db-count;desc=\"(\\d+)\"");
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("songify.sql-budget.endpoints.[GET /songs/{id}]", () -> "0");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    @DisplayName("GET /albums should report its statement count, database time and total time in Server-Timing header")
+    public void should_report_statement_count_and_timings_in_server_timing_header() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            SongDto song = addSong("server timing song " + i);
+            songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                    .title("server timing album " + i)
+                    .releaseDate(Instant.now())
+                    .songIds(Set.of(song.id()))
+                    .build());
+        }
+        // when
+        String serverTiming = mockMvc.perform(get("/albums"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("Server-Timing");
+        // then
+        assertThat(serverTiming).contains("db;dur=", "total;dur=");
+        assertThat(statementCount(serverTiming)).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("Server-Timing header should be present When response has no body and cached song costs no statement")
+    public void should_add_server_timing_header_when_response_has_no_body() throws Exception {
+        // given
+        SongDto song = addSong("server timing not modified song");
+        String eTag = mockMvc.perform(get("/songs/" + song.id()))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        // when
+        String serverTiming = mockMvc.perform(get("/songs/" + song.id()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andReturn()
+                .getResponse()
+                .getHeader("Server-Timing");
+        // then
+        assertThat(statementCount(serverTiming)).isZero();
+    }
+
+    @Test
+    @DisplayName("Budgets from application.properties should be bound under their full \"<METHOD> <pattern>\" keys")
+    public void should_bind_endpoint_budgets_from_application_properties() {
+        // when
+        Map<String, Integer> budgets = Binder.get(environment)
+                .bind("songify.sql-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .get();
+        // then
+        assertThat(budgets)
+                .containsEntry("GET /songs", 1)
+                .containsEntry("GET /albums/{albumId}", 2)
+                .containsEntry("GET /autocomplete", 0);
+    }
+
+    @Test
+    @DisplayName("Request over its SQL budget should be logged as a warning")
+    public void should_log_warning_when_request_exceeds_its_sql_budget(CapturedOutput output) throws Exception {
+        // given
+        SongDto song = addSong("server timing over budget song");
+        // when
+        mockMvc.perform(get("/songs/" + song.id()))
+                .andExpect(status().isOk());
+        // then
+        assertThat(output.getOut()).contains("SQL budget exceeded for GET /songs/{id}: ");
+    }
+
+    @Test
+    @DisplayName("Request within its SQL budget should not be logged")
+    public void should_not_log_warning_when_request_stays_within_its_sql_budget(CapturedOutput output) throws Exception {
+        // when
+        mockMvc.perform(get("/autocomplete").param("prefix", "server timing"))
+                .andExpect(status().isOk());
+        // then
+        assertThat(output.getOut()).doesNotContain("SQL budget exceeded");
+    }
+
+    private static int statementCount(String serverTiming) {
+        Matcher matcher = DB_COUNT.matcher(serverTiming);
+        assertThat(matcher.find()).isTrue();
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private SongDto addSong(final String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+}
@@ -0,0 +1,108 @@
+package infrastructure;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+class SongCacheIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("Should serve second read from cache and never return stale song after update")
+    public void should_serve_song_from_cache_and_evict_it_when_song_was_updated() {
+        // given
+        SongDto song = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("cached song")
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.findSongDtoById(song.id());
+        long hitsBefore = songsCacheStats().hitCount();
+        // when
+        SongDto cached = songifyCrudFacade.findSongDtoById(song.id());
+        songifyCrudFacade.updateSongById(song.id(), new SongDto(song.id(), "renamed song", null));
+        SongDto afterUpdate = songifyCrudFacade.findSongDtoById(song.id());
+        // then
+        assertThat(cached.name()).isEqualTo("cached song");
+        assertThat(songsCacheStats().hitCount()).isEqualTo(hitsBefore + 1);
+        assertThat(afterUpdate.name()).isEqualTo("renamed song");
+    }
+
+    @Test
+    @DisplayName("Should fill songs lookup from cache and load the rest in one query When some songs are cached")
+    public void should_fill_songs_lookup_from_cache_when_some_songs_are_cached() {
+        // given
+        SongDto cachedSong = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("cached lookup song")
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        SongDto loadedSong = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("loaded lookup song")
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.findSongDtoById(cachedSong.id());
+        long hitsBefore = songsCacheStats().hitCount();
+        // when
+        List<SongLookupDto> songs = songifyCrudFacade.findSongsByIds(
+                List.of(loadedSong.id(), -1L, cachedSong.id()));
+        // then
+        assertThat(songs)
+                .extracting(SongLookupDto::id, SongLookupDto::found)
+                .containsExactly(
+                        tuple(loadedSong.id(), true),
+                        tuple(-1L, false),
+                        tuple(cachedSong.id(), true));
+        assertThat(songs.get(0).song().genre().name()).isEqualTo("default");
+        assertThat(songsCacheStats().hitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    private CacheStats songsCacheStats() {
+        TransactionAwareCacheDecorator decorator =
+                (TransactionAwareCacheDecorator) cacheManager.getCache(SongifyCrudFacade.SONGS_CACHE);
+        return ((CaffeineCache) decorator.getTargetCache()).getNativeCache().stats();
+    }
+}
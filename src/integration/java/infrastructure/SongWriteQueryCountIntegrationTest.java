@@ -0,0 +1,107 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.SongNotFoundException;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+class SongWriteQueryCountIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Partial update should execute single statement and return updated row with genre")
+    public void should_execute_single_statement_when_song_is_partially_updated() {
+        // given
+        SongDto song = addSong("partial update song");
+        statistics.clear();
+        // when
+        SongDto updated = songifyCrudFacade.updateSongPartiallyById(song.id(), SongDto.builder().name("patched").build());
+        // then
+        assertThat(updated.id()).isEqualTo(song.id());
+        assertThat(updated.name()).isEqualTo("patched");
+        assertThat(updated.genre().name()).isEqualTo("default");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Update and delete should execute single statement each and detect missing song from row count")
+    public void should_execute_single_statement_when_song_is_updated_or_deleted() {
+        // given
+        SongDto song = addSong("update delete song");
+        statistics.clear();
+        // when
+        songifyCrudFacade.updateSongById(song.id(), new SongDto(song.id(), "updated", null));
+        songifyCrudFacade.deleteSongById(song.id());
+        long statements = statistics.getPrepareStatementCount();
+        Throwable throwable = catchThrowable(() -> songifyCrudFacade.deleteSongById(song.id()));
+        // then
+        assertThat(statements).isEqualTo(2);
+        assertThat(throwable).isInstanceOf(SongNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Adding song should insert it with default genre without re-reading it")
+    public void should_insert_song_with_default_genre_without_rereading_it() {
+        // given
+        statistics.clear();
+        // when
+        SongDto song = addSong("added song");
+        // then
+        assertThat(song.genre().name()).isEqualTo("default");
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    private SongDto addSong(String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+}
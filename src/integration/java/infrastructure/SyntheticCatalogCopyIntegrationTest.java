@@ -0,0 +1,93 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.CopySyntheticCatalogLoader;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.SyntheticCatalogGenerator;
+import com.songify.domain.crud.SyntheticCatalogSpec;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+class SyntheticCatalogCopyIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private SongifyCrudFacade songifyCrudFacade;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("COPY loader should load synthetic catalog into reserved ids that never collide with ids the application allocates")
+    public void should_load_synthetic_catalog_into_reserved_ids_when_application_already_holds_an_id_block() throws Exception {
+        // given
+        SyntheticCatalogSpec spec = SyntheticCatalogSpec.ofSongs(5_000);
+        SongDto before = addSong("song before synthetic load");
+        Long songsBefore = jdbcTemplate.queryForObject("SELECT count(*) FROM song", Long.class);
+        Long linksBefore = jdbcTemplate.queryForObject("SELECT count(*) FROM artist_albums", Long.class);
+        Long maxAlbumIdBefore = jdbcTemplate.queryForObject("SELECT coalesce(max(id), 0) FROM album", Long.class);
+        // when
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (CopySyntheticCatalogLoader loader = new CopySyntheticCatalogLoader(connection, spec)) {
+                new SyntheticCatalogGenerator(spec).generate(loader);
+            }
+            connection.commit();
+        }
+        // then
+        Long songsAfter = jdbcTemplate.queryForObject("SELECT count(*) FROM song", Long.class);
+        Long linksAfter = jdbcTemplate.queryForObject("SELECT count(*) FROM artist_albums", Long.class);
+        Long emptySyntheticAlbums = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM album a WHERE a.id > ? AND NOT EXISTS (SELECT 1 FROM song s WHERE s.album_id = a.id)",
+                Long.class, maxAlbumIdBefore);
+        assertThat(songsAfter - songsBefore).isEqualTo(spec.songs());
+        assertThat(linksAfter - linksBefore).isGreaterThanOrEqualTo(spec.albums());
+        assertThat(emptySyntheticAlbums).isZero();
+        assertThat(songifyCrudFacade.findAllSongsAfter(null, 20).songs()).hasSize(20);
+        // the next id comes from the block allocated before the load, it must not be taken by a synthetic song
+        SongDto after = addSong("song after synthetic load");
+        assertThat(after.id()).isNotEqualTo(before.id());
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM song WHERE id = ?", String.class, after.id()))
+                .isEqualTo("song after synthetic load");
+    }
+
+    private SongDto addSong(final String name) {
+        return songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.now())
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+    }
+}
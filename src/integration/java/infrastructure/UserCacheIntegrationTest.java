@@ -0,0 +1,148 @@
+package infrastructure;
+
+import com.songify.SongifyApplication;
+import com.songify.infrastructure.security.jwt.JwtAuthConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.provisioning.UserDetailsManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+class UserCacheIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserDetailsManager userDetailsManager;
+
+    @Autowired
+    private JwtAuthConverter jwtAuthConverter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Two authenticated requests of the same user should cost a single user lookup")
+    public void should_look_up_user_once_when_same_user_sends_two_authenticated_requests() throws Exception {
+        // given
+        String email = "cached-user@songify.com";
+        userDetailsManager.createUser(user(email, "ROLE_USER"));
+        long lookupsBefore = userLookups();
+        // when
+        mockMvc.perform(get("/songs").with(authenticatedAs(email)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/songs").with(authenticatedAs(email)))
+                .andExpect(status().isOk());
+        // then
+        assertThat(userLookups() - lookupsBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Creating a user should evict a principal cached for the same email")
+    public void should_evict_cached_principal_when_user_with_same_email_is_created() throws Exception {
+        // given
+        String email = "recreated-user@songify.com";
+        userDetailsManager.createUser(user(email, "ROLE_USER"));
+        mockMvc.perform(get("/songs").with(authenticatedAs(email)))
+                .andExpect(status().isOk());
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", email);
+        long lookupsBefore = userLookups();
+        // when
+        userDetailsManager.createUser(user(email, "ROLE_USER"));
+        mockMvc.perform(get("/songs").with(authenticatedAs(email)))
+                .andExpect(status().isOk());
+        // then
+        assertThat(userLookups() - lookupsBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Updating or deleting a user should evict the cached principal")
+    public void should_evict_cached_principal_when_user_is_updated_or_deleted() {
+        // given
+        String email = "promoted-user@songify.com";
+        userDetailsManager.createUser(user(email, "ROLE_USER"));
+        assertThat(authorities(email)).containsExactly("ROLE_USER");
+        // when
+        userDetailsManager.updateUser(user(email, "ROLE_USER", "ROLE_ADMIN"));
+        List<String> authoritiesAfterUpdate = authorities(email);
+        userDetailsManager.deleteUser(email);
+        // then
+        assertThat(authoritiesAfterUpdate).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(userDetailsManager.userExists(email)).isFalse();
+        Throwable throwable = catchThrowable(() -> userDetailsManager.loadUserByUsername(email));
+        assertThat(throwable).isInstanceOf(RuntimeException.class);
+    }
+
+    private RequestPostProcessor authenticatedAs(final String email) {
+        return jwt().jwt(token -> token.claim("email", email))
+                .authorities((Jwt token) -> new ArrayList<GrantedAuthority>(jwtAuthConverter.convert(token).getAuthorities()));
+    }
+
+    private List<String> authorities(final String email) {
+        Jwt token = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("email", email)
+                .build();
+        return jwtAuthConverter.convert(token).getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+
+    private long userLookups() {
+        return meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .tag("method", "findFirstByEmail")
+                .timers()
+                .stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private static UserDetails user(final String email, final String... authorities) {
+        return User.withUsername(email)
+                .password("secret")
+                .authorities(authorities)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package performance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * p99 latency (ms) and throughput (requests/s) per operation, plus {@code total.throughput}. Missing keys are not
+ * checked, so a baseline can cover only the operations that matter for a change.
+ */
+class LoadTestBaseline {
+    static final String RESOURCE = "/load-test-baseline.properties";
+
+    private final Properties properties;
+
+    private LoadTestBaseline(final Properties properties) {
+        this.properties = properties;
+    }
+
+    static LoadTestBaseline load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = LoadTestBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (inputStream != null) {
+                properties.load(inputStream);
+            }
+        }
+        return new LoadTestBaseline(properties);
+    }
+
+    List<String> regressions(final Map<String, LoadTestResult> results, final double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((key, result) -> {
+            String p99 = properties.getProperty(key + ".p99-ms");
+            if (p99 != null && result.p99Millis() > Double.parseDouble(p99) * (1 + tolerance)) {
+                regressions.add(key + " p99 " + result.p99Millis() + " ms exceeds baseline " + p99 + " ms");
+            }
+            String throughput = properties.getProperty(key + ".throughput");
+            if (throughput != null && result.throughput() < Double.parseDouble(throughput) * (1 - tolerance)) {
+                regressions.add(key + " throughput " + result.throughput() + "/s is below baseline " + throughput + "/s");
+            }
+        });
+        return regressions;
+    }
+
+    static void write(final Path file, final Map<String, LoadTestResult> results, final LoadTestSettings settings) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# " + settings + "\n");
+            for (Map.Entry<String, LoadTestResult> entry : results.entrySet()) {
+                writer.write(entry.getKey() + ".p99-ms=" + entry.getValue().p99Millis() + "\n");
+                writer.write(entry.getKey() + ".throughput=" + entry.getValue().throughput() + "\n");
+            }
+        }
+    }
+
+    record LoadTestResult(long requests, long errors, double p50Millis, double p99Millis, double maxMillis, double throughput) {
+    }
+}
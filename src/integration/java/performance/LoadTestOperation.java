@@ -0,0 +1,31 @@
+package performance;
+
+import java.util.Arrays;
+
+enum LoadTestOperation {
+    LIST_SONGS("list-songs"),
+    GET_SONG("get-song"),
+    GET_ALBUM("get-album"),
+    UPDATE_SONG("update-song"),
+    REPLACE_SONG("replace-song"),
+    ADD_SONG("add-song"),
+    DELETE_SONG("delete-song"),
+    DELETE_ARTIST("delete-artist");
+
+    private final String key;
+
+    LoadTestOperation(final String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static LoadTestOperation fromKey(final String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load test operation: " + key));
+    }
+}
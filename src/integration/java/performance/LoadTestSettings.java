@@ -0,0 +1,59 @@
+package performance;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Workload of {@link SongifyLoadTest}, every value can be overridden with a system property of the same name.
+ * The mix is a list of {@code operation=weight} pairs, e.g. {@code list-songs=40,get-song=30,get-album=15}.
+ * A positive {@code songify.load.rate-per-client} turns the closed loop into a paced one, latencies are then
+ * measured from the intended start time so queueing behind slow requests is not hidden (coordinated omission).
+ * Clients run on virtual threads together with {@code spring.threads.virtual.enabled} (Java 21), MockMvc handles
+ * the request on the calling thread, so that mirrors Tomcat running requests on virtual threads.
+ */
+record LoadTestSettings(
+        int clients,
+        boolean virtualClients,
+        Duration warmup,
+        Duration duration,
+        long catalogSongs,
+        Map<LoadTestOperation, Integer> mix,
+        double ratePerClient,
+        double tolerance,
+        double maxErrorRate
+) {
+    static final String DEFAULT_MIX = "list-songs=33,get-song=28,get-album=18,update-song=6,replace-song=5,add-song=5,delete-song=3,delete-artist=2";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("songify.load.clients", 16),
+                Boolean.parseBoolean(System.getProperty("songify.load.virtual-clients",
+                        System.getProperty("spring.threads.virtual.enabled", "false"))),
+                Duration.ofSeconds(Long.getLong("songify.load.warmup-seconds", 15L)),
+                Duration.ofSeconds(Long.getLong("songify.load.duration-seconds", 60L)),
+                Long.getLong("songify.load.catalog-songs", 20_000L),
+                parseMix(System.getProperty("songify.load.mix", DEFAULT_MIX)),
+                Double.parseDouble(System.getProperty("songify.load.rate-per-client", "0")),
+                Double.parseDouble(System.getProperty("songify.load.tolerance", "0.2")),
+                Double.parseDouble(System.getProperty("songify.load.max-error-rate", "0.01"))
+        );
+    }
+
+    private static Map<LoadTestOperation, Integer> parseMix(final String mix) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(LoadTestOperation.class);
+        Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> entry.split("="))
+                .forEach(entry -> weights.put(LoadTestOperation.fromKey(entry[0].trim()), Integer.parseInt(entry[1].trim())));
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return "clients=" + clients + (virtualClients ? " (virtual)" : "") + ", warmup=" + warmup.toSeconds() + "s, duration=" + duration.toSeconds()
+                + "s, catalogSongs=" + catalogSongs + ", ratePerClient=" + ratePerClient + ", mix=" + mix;
+    }
+}
@@ -0,0 +1,310 @@
+package performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.SongifyApplication;
+import com.songify.domain.crud.CopySyntheticCatalogLoader;
+import com.songify.domain.crud.SyntheticCatalogGenerator;
+import com.songify.domain.crud.SyntheticCatalogSpec;
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Drives a configurable request mix against a synthetic catalog (see {@link LoadTestSettings}) and fails when p99
+ * latency or throughput regress past {@code load-test-baseline.properties}. Requests go through MockMvc, so the
+ * whole filter chain, security, MVC, JSON and database path is measured but not the servlet container.
+ * <p>
+ * Latencies are recorded in HdrHistograms (microseconds). Percentile distributions and a fresh baseline are written
+ * to {@code target/load-test}, copy the baseline over the stored one after an intended performance change.
+ */
+@SpringBootTest(classes = SongifyApplication.class)
+@ActiveProfiles("integration")
+@Testcontainers
+@AutoConfigureMockMvc
+@Tag("load")
+@Log4j2
+class SongifyLoadTest {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Path RESULTS = Path.of("target", "load-test");
+    private static final String TOTAL = "total";
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    public static void propertyOverride(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final RequestPostProcessor admin = jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    private final Map<LoadTestOperation, Recorder> recorders = new EnumMap<>(LoadTestOperation.class);
+    private final Map<LoadTestOperation, LongAdder> errors = new EnumMap<>(LoadTestOperation.class);
+    private long[] songIds;
+    private long[] albumIds;
+
+    @Test
+    @DisplayName("Request mix from concurrent clients should stay within baseline p99 latency and throughput")
+    public void should_stay_within_baseline_latency_and_throughput_when_driven_by_concurrent_clients() throws Exception {
+        // given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        log.info("load test settings: " + settings);
+        loadCatalog(settings.catalogSongs());
+        for (LoadTestOperation operation : settings.mix().keySet()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        // when
+        Map<String, LoadTestBaseline.LoadTestResult> results = run(settings);
+        // then
+        report(results, settings);
+        LoadTestBaseline.LoadTestResult total = results.get(TOTAL);
+        assertThat((double) total.errors() / Math.max(1, total.requests()))
+                .as("error rate")
+                .isLessThanOrEqualTo(settings.maxErrorRate());
+        assertThat(LoadTestBaseline.load().regressions(results, settings.tolerance()))
+                .as("regressions against " + LoadTestBaseline.RESOURCE)
+                .isEmpty();
+    }
+
+    private Map<String, LoadTestBaseline.LoadTestResult> run(final LoadTestSettings settings) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService clients = clientExecutor(settings);
+        try {
+            for (int i = 0; i < settings.clients(); i++) {
+                clients.submit(() -> runClient(settings, running));
+            }
+            Thread.sleep(settings.warmup().toMillis());
+            recorders.values().forEach(Recorder::reset);
+            errors.values().forEach(LongAdder::reset);
+            long measureStart = System.nanoTime();
+            Thread.sleep(settings.duration().toMillis());
+            running.set(false);
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+            clients.shutdown();
+            assertThat(clients.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+            return results(seconds);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static ExecutorService clientExecutor(final LoadTestSettings settings) throws ReflectiveOperationException {
+        if (settings.virtualClients()) {
+            // Java 21 API, looked up reflectively so the suite still compiles without the java21 profile
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        return Executors.newFixedThreadPool(settings.clients());
+    }
+
+    private void runClient(final LoadTestSettings settings, final AtomicBoolean running) {
+        long intervalNanos = settings.ratePerClient() > 0 ? (long) (1e9 / settings.ratePerClient()) : 0;
+        long intendedStart = System.nanoTime();
+        while (running.get()) {
+            LoadTestOperation operation = nextOperation(settings.mix());
+            try {
+                MockHttpServletRequestBuilder request = prepare(operation);
+                long start = System.nanoTime();
+                if (intervalNanos > 0) {
+                    LockSupport.parkNanos(intendedStart - start);
+                    start = intendedStart;
+                    intendedStart += intervalNanos;
+                }
+                int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+                recorders.get(operation).recordValue(Math.min((System.nanoTime() - start) / 1000, HIGHEST_TRACKABLE_MICROS));
+                if (status >= 300) {
+                    errors.get(operation).increment();
+                }
+            } catch (Exception e) {
+                log.warn("load test request " + operation.key() + " failed: " + e.getMessage());
+                errors.get(operation).increment();
+            }
+        }
+    }
+
+    private MockHttpServletRequestBuilder prepare(final LoadTestOperation operation) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST_SONGS -> get("/songs");
+            case GET_SONG -> get("/songs/" + songIds[random.nextInt(songIds.length)]);
+            case GET_ALBUM -> get("/albums/" + albumIds[random.nextInt(albumIds.length)]);
+            case UPDATE_SONG -> patch("/songs/" + songIds[random.nextInt(songIds.length)])
+                    .with(admin)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"songName\": \"load update " + random.nextInt(1000) + "\"}");
+            case REPLACE_SONG -> put("/songs/" + songIds[random.nextInt(songIds.length)])
+                    .with(admin)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"songName\": \"load replace " + random.nextInt(1000) + "\", \"artist\": \"load artist\"}");
+            case ADD_SONG -> addSongRequest();
+            // the song to delete is created outside of the measured request, the catalog songs stay untouched
+            case DELETE_SONG -> delete("/songs/" + addSong()).with(admin);
+            // the artist to delete is created outside of the measured request
+            case DELETE_ARTIST -> delete("/artists/" + addArtistWithAlbumAndSong()).with(admin);
+        };
+    }
+
+    private MockHttpServletRequestBuilder addSongRequest() {
+        return post("/songs")
+                .with(admin)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                         "name": "load song",
+                         "releaseDate": "2024-03-15T13:55:21.850Z",
+                         "duration": 200,
+                         "language": "ENGLISH"
+                        }
+                        """);
+    }
+
+    private long addSong() throws Exception {
+        String response = mockMvc.perform(addSongRequest())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("song").get("id").asLong();
+    }
+
+    private long addArtistWithAlbumAndSong() throws Exception {
+        String response = mockMvc.perform(post("/artists/album/song")
+                        .with(admin)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"load artist\"}"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private static LoadTestOperation nextOperation(final Map<LoadTestOperation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<LoadTestOperation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty load test mix");
+    }
+
+    private Map<String, LoadTestBaseline.LoadTestResult> results(final double seconds) {
+        Map<String, LoadTestBaseline.LoadTestResult> results = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<LoadTestOperation, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            long operationErrors = errors.get(entry.getKey()).sum();
+            total.add(histogram);
+            totalErrors += operationErrors;
+            results.put(entry.getKey().key(), result(histogram, operationErrors, seconds));
+            writeDistribution(entry.getKey().key(), histogram);
+        }
+        results.put(TOTAL, result(total, totalErrors, seconds));
+        writeDistribution(TOTAL, total);
+        return results;
+    }
+
+    private static LoadTestBaseline.LoadTestResult result(final Histogram histogram, final long errors, final double seconds) {
+        return new LoadTestBaseline.LoadTestResult(
+                histogram.getTotalCount(),
+                errors,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                Math.round(histogram.getTotalCount() / seconds * 10) / 10.0);
+    }
+
+    private static void writeDistribution(final String key, final Histogram histogram) {
+        try {
+            Files.createDirectories(RESULTS);
+            try (PrintStream printStream = new PrintStream(Files.newOutputStream(RESULTS.resolve(key + ".hgrm")))) {
+                histogram.outputPercentileDistribution(printStream, 1000.0);
+            }
+        } catch (Exception e) {
+            log.warn("could not write latency distribution for " + key + ": " + e.getMessage());
+        }
+    }
+
+    private static void report(final Map<String, LoadTestBaseline.LoadTestResult> results, final LoadTestSettings settings) throws Exception {
+        List<String> lines = new ArrayList<>();
+        results.forEach((key, result) -> lines.add(String.format("%-14s requests=%-8d errors=%-6d p50=%.2fms p99=%.2fms max=%.2fms throughput=%.1f/s",
+                key, result.requests(), result.errors(), result.p50Millis(), result.p99Millis(), result.maxMillis(), result.throughput())));
+        log.info("load test results\n" + String.join("\n", lines));
+        LoadTestBaseline.write(RESULTS.resolve("baseline.properties"), results, settings);
+    }
+
+    private void loadCatalog(final long songs) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            SyntheticCatalogSpec spec = SyntheticCatalogSpec.ofSongs(songs);
+            try (CopySyntheticCatalogLoader loader = new CopySyntheticCatalogLoader(connection, spec)) {
+                new SyntheticCatalogGenerator(spec).generate(loader);
+            }
+            connection.commit();
+        }
+        songIds = jdbcTemplate.queryForList("SELECT id FROM song", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        albumIds = jdbcTemplate.queryForList("SELECT DISTINCT albums_id FROM artist_albums", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
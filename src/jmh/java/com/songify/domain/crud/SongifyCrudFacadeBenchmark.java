@@ -0,0 +1,167 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.AlbumDto;
+import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.ArtistDeletionResultDto;
+import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongPageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Facade hot paths on the in-memory repositories used by {@code SongifyCrudFacadeTest}. No database or Spring
+ * context is involved, so the numbers cover mapping, validation and the retriever / updater logic only.
+ * Run with the {@code jmh} profile, {@code -prof gc} reports the allocation rate next to the throughput.
+ * The destructive cascade delete is measured as single shot batches, see {@link ArtistCascade}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SongifyCrudFacadeBenchmark {
+
+    @Param({"1000"})
+    int catalogSize;
+
+    SongifyCrudFacade songifyCrudFacade;
+    Long albumId;
+    List<Long> lookupIds;
+    String secondPageCursor;
+    long nextSongId;
+
+    @Setup(Level.Iteration)
+    public void createCatalog() {
+        songifyCrudFacade = createFacade();
+        for (int i = 0; i < catalogSize; i++) {
+            songifyCrudFacade.addSong(song("song " + i));
+        }
+        albumId = songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .title("benchmark album")
+                .releaseDate(Instant.EPOCH)
+                .songIds(Set.of(0L))
+                .build()).id();
+        lookupIds = LongStream.range(0, 50).map(i -> i * (catalogSize / 50)).boxed().toList();
+        secondPageCursor = songifyCrudFacade.findAllSongsAfter(null, 20).nextCursor();
+        nextSongId = 0;
+    }
+
+    @Benchmark
+    public SongDto findSongDtoById() {
+        return songifyCrudFacade.findSongDtoById(nextSongId());
+    }
+
+    @Benchmark
+    public List<SongLookupDto> findSongsByIds() {
+        return songifyCrudFacade.findSongsByIds(lookupIds);
+    }
+
+    @Benchmark
+    public SongPageDto findAllSongsAfter() {
+        return songifyCrudFacade.findAllSongsAfter(secondPageCursor, 20);
+    }
+
+    @Benchmark
+    public SongDto addSong() {
+        return songifyCrudFacade.addSong(song("added song"));
+    }
+
+    @Benchmark
+    public AlbumDto addSongToAlbum() {
+        return songifyCrudFacade.addSongToAlbum(albumId, nextSongId());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = ArtistCascade.ARTISTS_PER_ITERATION)
+    @Measurement(iterations = 5, batchSize = ArtistCascade.ARTISTS_PER_ITERATION)
+    public ArtistDeletionResultDto deleteArtistByIdWithAlbumsAndSongs(final ArtistCascade cascade) {
+        return cascade.songifyCrudFacade.deleteArtistByIdWithAlbumsAndSongs(cascade.artistIds.pop());
+    }
+
+    /**
+     * Cascade delete is destructive, so each artist can be deleted only once. Every iteration builds a fresh
+     * facade with a pool of {@link #ARTISTS_PER_ITERATION} artists, each owning one album of ten songs, and the
+     * single shot batch deletes exactly that many. The reported score is the time of the whole batch, setup
+     * stays outside of it without the per invocation timestamps of {@code Level.Invocation}.
+     */
+    @State(Scope.Thread)
+    public static class ArtistCascade {
+        static final int ARTISTS_PER_ITERATION = 200;
+
+        SongifyCrudFacade songifyCrudFacade;
+        Deque<Long> artistIds;
+
+        @Setup(Level.Iteration)
+        public void createArtistsWithAlbums() {
+            songifyCrudFacade = SongifyCrudFacadeBenchmark.createFacade();
+            artistIds = new ArrayDeque<>(ARTISTS_PER_ITERATION);
+            for (int i = 0; i < ARTISTS_PER_ITERATION; i++) {
+                artistIds.push(createArtistWithAlbum(i));
+            }
+        }
+
+        private Long createArtistWithAlbum(final int index) {
+            Long artistId = songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("artist " + index).build()).id();
+            Set<Long> songIds = LongStream.range(0, 10)
+                    .mapToObj(i -> songifyCrudFacade.addSong(song("cascade song " + index + " " + i)).id())
+                    .collect(Collectors.toSet());
+            Long albumId = songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                    .title("cascade album " + index)
+                    .releaseDate(Instant.EPOCH)
+                    .songIds(songIds)
+                    .build()).id();
+            songifyCrudFacade.addArtistToAlbum(artistId, albumId);
+            return artistId;
+        }
+    }
+
+    private long nextSongId() {
+        long id = nextSongId;
+        nextSongId = (nextSongId + 1) % catalogSize;
+        return id;
+    }
+
+    private static SongifyCrudFacade createFacade() {
+        InMemoryAlbumRepository albumRepository = new InMemoryAlbumRepository();
+        return SongifyCrudFacadeConfiguration.createSongifyCrud(
+                new InMemorySongRepository(albumRepository),
+                new InMemoryGenreRepository(),
+                new InMemoryArtistRepository(albumRepository),
+                albumRepository
+        );
+    }
+
+    private static SongRequestDto song(final String name) {
+        return SongRequestDto.builder()
+                .name(name)
+                .releaseDate(Instant.EPOCH)
+                .duration(200L)
+                .language(SongLanguageDto.ENGLISH)
+                .build();
+    }
+}
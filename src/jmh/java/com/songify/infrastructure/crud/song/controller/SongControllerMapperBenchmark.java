@@ -0,0 +1,104 @@
+package com.songify.infrastructure.crud.song.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.domain.crud.dto.GenreDto;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongPageDto;
+import com.songify.infrastructure.crud.song.controller.dto.request.CreateSongRequestDto;
+import com.songify.infrastructure.crud.song.controller.dto.response.GetAllSongsResponseDto;
+import com.songify.infrastructure.crud.song.controller.dto.response.GetSongResponseDto;
+import com.songify.infrastructure.crud.song.controller.dto.response.GetSongsByIdsResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * {@link SongControllerMapper} mappings and JSON serialization of the song response bodies. The object mapper
+ * is built with the same builder Spring Boot uses for the HTTP message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SongControllerMapperBenchmark {
+
+    @Param({"20", "500"})
+    int pageSize;
+
+    ObjectMapper objectMapper;
+    CreateSongRequestDto createSongRequestDto;
+    SongDto songDto;
+    SongPageDto songPageDto;
+    GetSongResponseDto getSongResponseDto;
+    GetAllSongsResponseDto getAllSongsResponseDto;
+    GetSongsByIdsResponseDto getSongsByIdsResponseDto;
+
+    @Setup
+    public void createDtos() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        createSongRequestDto = new CreateSongRequestDto("song", "artist");
+        songDto = song(1L);
+        List<SongDto> songs = LongStream.range(0, pageSize).mapToObj(SongControllerMapperBenchmark::song).toList();
+        songPageDto = new SongPageDto(songs, "bmV4dA");
+        getSongResponseDto = SongControllerMapper.mapFromSongToGetSongResponseDto(songDto);
+        getAllSongsResponseDto = SongControllerMapper.mapFromSongPageToGetAllSongsResponseDto(songPageDto);
+        getSongsByIdsResponseDto = new GetSongsByIdsResponseDto(songs.stream()
+                .map(song -> song.id() % 10 == 0 ? SongLookupDto.notFound(song.id()) : SongLookupDto.found(song))
+                .toList());
+    }
+
+    @Benchmark
+    public SongDto mapFromCreateSongRequestDtoToSongDto() {
+        return SongControllerMapper.mapFromCreateSongRequestDtoToSongDto(createSongRequestDto);
+    }
+
+    @Benchmark
+    public GetSongResponseDto mapFromSongToGetSongResponseDto() {
+        return SongControllerMapper.mapFromSongToGetSongResponseDto(songDto);
+    }
+
+    @Benchmark
+    public GetAllSongsResponseDto mapFromSongPageToGetAllSongsResponseDto() {
+        return SongControllerMapper.mapFromSongPageToGetAllSongsResponseDto(songPageDto);
+    }
+
+    @Benchmark
+    public byte[] serializeGetSongResponseDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getSongResponseDto);
+    }
+
+    @Benchmark
+    public byte[] serializeGetAllSongsResponseDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getAllSongsResponseDto);
+    }
+
+    @Benchmark
+    public byte[] serializeGetSongsByIdsResponseDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getSongsByIdsResponseDto);
+    }
+
+    private static SongDto song(final long id) {
+        return SongDto.builder()
+                .id(id)
+                .name("song " + id)
+                .genre(new GenreDto(1L, "default"))
+                .build();
+    }
+}
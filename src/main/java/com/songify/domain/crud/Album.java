@@ -29,7 +29,7 @@ class Album extends BaseEntity {
     @SequenceGenerator(
             name = "album_id_seq",
             sequenceName = "album_id_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     private Long id;
 
@@ -1,13 +1,13 @@
 package com.songify.domain.crud;
 
 import com.songify.domain.crud.dto.AlbumDto;
-import jakarta.transaction.Transactional;
+import com.songify.domain.crud.dto.SearchResultType;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -15,27 +15,32 @@ import java.util.stream.Collectors;
 class AlbumAdder {
 
     private final SongRetriever songRetriever;
+    private final SongUpdater songUpdater;
     private final AlbumRepository albumRepository;
+    private final AutocompleteIndex autocompleteIndex;
 
     AlbumDto addAlbum(final Set<Long> songIds, final String title, final Instant instant) {
-//        Song song = songRetriever.findSongById(songIds);
-        Set<Song> songs = songIds.stream()
-                .map(songRetriever::findSongById)
-                .collect(Collectors.toSet());
-//         todo refactor write songRetriever.findAllSongsByIds(songIds)
-
+        if (!songIds.isEmpty()) {
+            songRetriever.requireAllExist(songIds);
+        }
         Album album = new Album();
         album.setTitle(title);
-        album.addSongsToAlbum(songs);
         album.setReleaseDate(instant);
         Album savedAlbum = albumRepository.save(album);
-        return new AlbumDto(savedAlbum.getId(), savedAlbum.getTitle(), savedAlbum.getSongsIds());
+        if (!songIds.isEmpty() && songUpdater.assignAlbum(savedAlbum.getId(), songIds) != songIds.size()) {
+            // a song deleted after requireAllExist would otherwise silently be left out of the album
+            throw new SongNotFoundException("Songs with ids: " + songIds + " were not all assigned to album with id: " + savedAlbum.getId());
+        }
+        autocompleteIndex.put(SearchResultType.ALBUM, savedAlbum.getId(), savedAlbum.getTitle());
+        return new AlbumDto(savedAlbum.getId(), savedAlbum.getTitle(), Set.copyOf(songIds));
     }
 
     Album addAlbum(final String title, final Instant instant) {
         Album album = new Album();
         album.setTitle(title);
         album.setReleaseDate(instant);
-        return albumRepository.save(album);
+        Album savedAlbum = albumRepository.save(album);
+        autocompleteIndex.put(SearchResultType.ALBUM, savedAlbum.getId(), savedAlbum.getTitle());
+        return savedAlbum;
     }
 }
@@ -1,5 +1,6 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.SearchResultType;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -8,7 +9,10 @@ import java.util.Set;
 @Service
 class AlbumDeleter {
    private final AlbumRepository albumRepository;
-    void deleteAllAlbumsByIds(final Set<Long> albumIdsToDelete) {
-        albumRepository.deleteByIdIn(albumIdsToDelete);
+   private final AutocompleteIndex autocompleteIndex;
+    int deleteAllAlbumsByIds(final Set<Long> albumIdsToDelete) {
+        int deleted = albumRepository.deleteByIdIn(albumIdsToDelete);
+        autocompleteIndex.removeAll(SearchResultType.ALBUM, albumIdsToDelete);
+        return deleted;
     }
 }
@@ -1,14 +1,22 @@
 package com.songify.domain.crud;
 
-import com.songify.domain.crud.dto.AlbumInfo;
+import com.songify.domain.crud.dto.AlbumExportDto;
+import com.songify.domain.crud.dto.AlbumSongIdInfo;
+import com.songify.domain.crud.dto.EntityNameInfo;
+import com.songify.domain.crud.dto.SearchHitInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 interface AlbumRepository extends Repository<Album, Long> {
 
@@ -16,13 +24,31 @@ interface AlbumRepository extends Repository<Album, Long> {
 
     Optional<Album> findById(Long id);
 
+    boolean existsById(Long id);
+
     @Query("""
             select a from Album a
             join fetch a.songs songs
+            left join fetch songs.genre
             join fetch a.artists artists
             where a.id = :id
             """)
-    Optional<AlbumInfo> findAlbumByIdWithSongAndArtists(Long id);
+    Optional<Album> findAlbumByIdWithSongAndArtists(Long id);
+
+    @Query(value = """
+            select md5(concat_ws('|', a.version,
+                   (select string_agg(concat(s.id, ':', s.version, ':', g.id, ':', g.version), ',' order by s.id)
+                    from song s
+                    left join genre g on g.id = s.genre_id
+                    where s.album_id = a.id),
+                   (select string_agg(concat(ar.id, ':', ar.version), ',' order by ar.id)
+                    from artist_albums aa
+                    join artist ar on ar.id = aa.artists_id
+                    where aa.albums_id = a.id)))
+            from album a
+            where a.id = :id
+            """, nativeQuery = true)
+    Optional<String> findVersionTagById(Long id);
 
     @Query("""
             select a from Album a
@@ -31,9 +57,68 @@ interface AlbumRepository extends Repository<Album, Long> {
             """)
     Set<Album> findAllAlbumsByArtistId(@Param("id") Long id);
 
+    @Query("""
+            select a.id as albumId, a.title as title, s.id as songId
+            from Album a
+            inner join a.artists artists
+            left join a.songs s
+            where artists.id = :id
+            """)
+    List<AlbumSongIdInfo> findAllAlbumsWithSongIdsByArtistId(@Param("id") Long id);
+
+    @Query("""
+            select a.id as albumId, a.title as title, s.id as songId
+            from Album a
+            left join a.songs s
+            where a.id = :id
+            """)
+    List<AlbumSongIdInfo> findAlbumWithSongIdsById(@Param("id") Long id);
+
+    @Query("""
+            select a.id as albumId, a.title as title, s.id as songId
+            from Album a
+            left join a.songs s
+            """)
+    List<AlbumSongIdInfo> findAllAlbumsWithSongIds();
+
+    @Query(value = """
+            select aa.albums_id from artist_albums aa
+            where aa.artists_id = :artistId
+            and not exists (
+                select 1 from artist_albums other
+                where other.albums_id = aa.albums_id
+                and other.artists_id <> :artistId
+            )
+            """, nativeQuery = true)
+    Set<Long> findIdsOfAlbumsWithOnlyArtist(Long artistId);
+
+    @Query(value = """
+            select t.id as id, t.title as name,
+                   cast(greatest(ts_rank(t.title_tsv, websearch_to_tsquery('simple', :query)),
+                                 similarity(t.title, :query)) as double precision) as rank
+            from album t
+            where t.title_tsv @@ websearch_to_tsquery('simple', :query)
+               or t.title % :query
+            order by rank desc, t.id
+            limit :limit
+            """, nativeQuery = true)
+    List<SearchHitInfo> searchByTitle(String query, int limit);
+
     @Modifying
     @Query("delete from Album a where a.id in :ids")
     int deleteByIdIn(Collection<Long> ids);
 
     Set<Album> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select a.id as id, a.title as name from Album a")
+    Stream<EntityNameInfo> streamAllTitles();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.songify.domain.crud.dto.AlbumExportDto(a.id, a.title, a.releaseDate)
+            from Album a
+            order by a.id
+            """)
+    Stream<AlbumExportDto> streamAllForExport();
 }
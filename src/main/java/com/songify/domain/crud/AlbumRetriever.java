@@ -1,12 +1,22 @@
 package com.songify.domain.crud;
 
 import com.songify.domain.crud.dto.AlbumDto;
-import com.songify.domain.crud.dto.AlbumInfo;
+import com.songify.domain.crud.dto.AlbumExportDto;
+import com.songify.domain.crud.dto.AlbumDetailsDto;
+import com.songify.domain.crud.dto.AlbumSongDto;
+import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.GenreDto;
+import com.songify.domain.crud.dto.AlbumSongIdInfo;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
@@ -14,9 +24,33 @@ class AlbumRetriever {
 
     private final AlbumRepository albumRepository;
 
-    AlbumInfo findAlbumByIdWithArtistsAndSongs(final Long id) {
-        return albumRepository.findAlbumByIdWithSongAndArtists(id)
+    AlbumDetailsDto findAlbumByIdWithArtistsAndSongs(final Long id) {
+        Album album = albumRepository.findAlbumByIdWithSongAndArtists(id)
                 .orElseThrow(() -> new AlbumNotFoundException("Album with id: " + id + " not found"));
+        return new AlbumDetailsDto(
+                album.getId(),
+                album.getTitle(),
+                album.getReleaseDate(),
+                album.getSongs()
+                        .stream()
+                        .map(AlbumRetriever::mapFromSong)
+                        .collect(Collectors.toSet()),
+                album.getArtists()
+                        .stream()
+                        .map(artist -> new ArtistDto(artist.getId(), artist.getName()))
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    private static AlbumSongDto mapFromSong(final Song song) {
+        Genre genre = song.getGenre();
+        return new AlbumSongDto(
+                song.getId(),
+                song.getName(),
+                song.getReleaseDate(),
+                song.getDuration(),
+                genre == null ? null : new GenreDto(genre.getId(), genre.getName())
+        );
     }
 
     int countArtistsByAlbumId(final Long id) {
@@ -25,15 +59,25 @@ class AlbumRetriever {
                 .size();
     }
 
-    Set<Album> findAlbumsByArtistId(final Long artistId) {
-        return albumRepository.findAllAlbumsByArtistId(artistId);
+    Set<Long> findIdsOfAlbumsWithOnlyArtist(final Long artistId) {
+        return albumRepository.findIdsOfAlbumsWithOnlyArtist(artistId);
     }
 
     Set<AlbumDto> findAlbumsDtoByArtistId(final Long artistId) {
-        return findAlbumsByArtistId(artistId)
+        return mapFromAlbumSongIdRows(albumRepository.findAllAlbumsWithSongIdsByArtistId(artistId));
+    }
+
+    AlbumDto findDtoWithSongIdsById(final Long albumId) {
+        return mapFromAlbumSongIdRows(albumRepository.findAlbumWithSongIdsById(albumId))
                 .stream()
-                .map(album -> new AlbumDto(album.getId(), album.getTitle(),album.getSongsIds()))
-                .collect(Collectors.toSet());
+                .findFirst()
+                .orElseThrow(() -> new AlbumNotFoundException("Album with id: " + albumId + " not found"));
+    }
+
+    void existsById(final Long albumId) {
+        if (!albumRepository.existsById(albumId)) {
+            throw new AlbumNotFoundException("Album with id: " + albumId + " not found");
+        }
     }
 
     Album findById(final Long albumId) {
@@ -43,6 +87,14 @@ class AlbumRetriever {
                 );
     }
 
+    String findVersionTagById(final Long albumId) {
+        return albumRepository.findVersionTagById(albumId)
+                .map(digest -> "album-" + albumId + "-" + digest)
+                .orElseThrow(
+                        () -> new AlbumNotFoundException("Album with id: " + albumId + " not found")
+                );
+    }
+
     AlbumDto findDtoById(final Long albumId) {
         Album album = findById(albumId);
         return new AlbumDto(
@@ -53,9 +105,27 @@ class AlbumRetriever {
     }
 
     Set<AlbumDto> findAll() {
-        return albumRepository.findAll()
+        return mapFromAlbumSongIdRows(albumRepository.findAllAlbumsWithSongIds());
+    }
+
+    private Set<AlbumDto> mapFromAlbumSongIdRows(final List<AlbumSongIdInfo> rows) {
+        Map<Long, List<AlbumSongIdInfo>> rowsByAlbumId = rows.stream()
+                .collect(Collectors.groupingBy(AlbumSongIdInfo::getAlbumId));
+        return rowsByAlbumId.values()
                 .stream()
-                .map(album -> new AlbumDto(album.getId(), album.getTitle(),album.getSongsIds()))
+                .map(albumRows -> new AlbumDto(
+                        albumRows.get(0).getAlbumId(),
+                        albumRows.get(0).getTitle(),
+                        albumRows.stream()
+                                .map(AlbumSongIdInfo::getSongId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet())))
                 .collect(Collectors.toSet());
     }
+
+    void exportAll(final Consumer<AlbumExportDto> consumer) {
+        try (Stream<AlbumExportDto> albums = albumRepository.streamAllForExport()) {
+            albums.forEach(consumer);
+        }
+    }
 }
@@ -26,7 +26,7 @@ class Artist extends BaseEntity {
     @SequenceGenerator(
             name = "artist_id_seq",
             sequenceName = "artist_id_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     private Long id;
 
@@ -2,6 +2,7 @@ package com.songify.domain.crud;
 
 import com.songify.domain.crud.dto.ArtistDto;
 import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.SearchResultType;
 import com.songify.domain.crud.dto.SongLanguageDto;
 import com.songify.domain.crud.dto.SongRequestDto;
 import lombok.AllArgsConstructor;
@@ -17,10 +18,12 @@ class ArtistAdder {
     private final ArtistRepository artistRepository;
     private final AlbumAdder albumAdder;
     private final SongAdder songAdder;
+    private final AutocompleteIndex autocompleteIndex;
 
     ArtistDto addArtist(final String name) {
         Artist artist = new Artist(name);
         Artist save = artistRepository.save(artist);
+        autocompleteIndex.put(SearchResultType.ARTIST, save.getId(), save.getName());
         return new ArtistDto(save.getId(), save.getName());
     }
 
@@ -45,7 +48,9 @@ class ArtistAdder {
         Artist artist = new Artist(name);
         album.addSongToAlbum(song);
         artist.addAlbum(album);
-        return artistRepository.save(artist);
+        Artist save = artistRepository.save(artist);
+        autocompleteIndex.put(SearchResultType.ARTIST, save.getId(), save.getName());
+        return save;
     }
 
 
@@ -7,12 +7,14 @@ import org.springframework.stereotype.Service;
 @Service
 class ArtistAssigner {
 
+    private final ArtistRepository artistRepository;
     private final ArtistRetriever artistRetriever;
     private final AlbumRetriever albumRetriever;
 
     void addArtistToAlbum(final Long artistId, final Long albumId) {
-        Artist artist = artistRetriever.findById(artistId);
-        Album album = albumRetriever.findById(albumId);
-        artist.addAlbum(album);
+        if (artistRepository.addAlbumLink(artistId, albumId) == 0) {
+            artistRetriever.existsById(artistId);
+            albumRetriever.existsById(albumId);
+        }
     }
 }
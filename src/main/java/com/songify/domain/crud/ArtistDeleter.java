@@ -1,50 +1,40 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.ArtistDeletionResultDto;
+import com.songify.domain.crud.dto.SearchResultType;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @AllArgsConstructor
 @Service
 @Log4j2
 class ArtistDeleter {
     private final ArtistRepository artistRepository;
-    private final ArtistRetriever artistRetriever;
     private final AlbumRetriever albumRetriever;
     private final AlbumDeleter albumDeleter;
     private final SongDeleter songDeleter;
+    private final AutocompleteIndex autocompleteIndex;
 
-    void deleteArtistsByIdWithAlbumsAndSongs(final Long artistId) {
-        Artist artist = artistRetriever.findById(artistId);
-        Set<Album> artistAlbums = albumRetriever.findAlbumsByArtistId(artist.getId());
-        if (artistAlbums.isEmpty()) {
-            log.info("Artist with id: " + artistId + "  have 0 albums");
-            artistRepository.deleteById(artistId);
-            return;
+    ArtistDeletionResultDto deleteArtistsByIdWithAlbumsAndSongs(final Long artistId) {
+        if (!artistRepository.existsById(artistId)) {
+            throw new ArtistNotFoundException(artistId.toString());
+        }
+        Set<Long> albumIdsWhereWasOnlyThisArtist = albumRetriever.findIdsOfAlbumsWithOnlyArtist(artistId);
+        int deletedSongs = 0;
+        int deletedAlbums = 0;
+        if (!albumIdsWhereWasOnlyThisArtist.isEmpty()) {
+            deletedSongs = songDeleter.deleteAllSongsByAlbumIds(albumIdsWhereWasOnlyThisArtist);
+        }
+        artistRepository.deleteAlbumLinksById(artistId);
+        if (!albumIdsWhereWasOnlyThisArtist.isEmpty()) {
+            deletedAlbums = albumDeleter.deleteAllAlbumsByIds(albumIdsWhereWasOnlyThisArtist);
         }
-        Set<Album> albumsWithOnlyOneArtist = artistAlbums.stream()
-                .filter(album -> album.getArtists().size() == 1)
-                .collect(Collectors.toSet());
-
-        Set<Long> allSongsIdsFromAllAlbumsWhereWasOnlyThisArtist = albumsWithOnlyOneArtist
-                .stream()
-                .flatMap(album -> album.getSongs().stream())
-                .map(Song::getId)
-                .collect(Collectors.toSet());
-
-        songDeleter.deleteAllSongsById(allSongsIdsFromAllAlbumsWhereWasOnlyThisArtist);
-
-        Set<Long> albumIdsToDelete = albumsWithOnlyOneArtist.stream()
-                .map(Album::getId)
-                .collect(Collectors.toSet());
-        albumDeleter.deleteAllAlbumsByIds(albumIdsToDelete);
-        artistAlbums.stream()
-                .filter(album -> album.getArtists().size() >= 2)
-                .forEach(album -> album.removeArtist(artist));
         artistRepository.deleteById(artistId);
-
+        autocompleteIndex.remove(SearchResultType.ARTIST, artistId);
+        log.info("Deleted artist with id: " + artistId + " with " + deletedAlbums + " albums and " + deletedSongs + " songs");
+        return new ArtistDeletionResultDto(artistId, deletedSongs, deletedAlbums);
     }
 }
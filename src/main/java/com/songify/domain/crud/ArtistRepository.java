@@ -1,12 +1,20 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.EntityNameInfo;
+import com.songify.domain.crud.dto.EntityVersionInfo;
+import com.songify.domain.crud.dto.SearchHitInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 interface ArtistRepository extends Repository<Artist, Long> {
     Artist save(Artist artist);
@@ -15,6 +23,41 @@ interface ArtistRepository extends Repository<Artist, Long> {
 
     Optional<Artist> findById(Long artistId);
 
+    @Query("select a.id as id, a.version as version from Artist a")
+    List<EntityVersionInfo> findVersions(Pageable pageable);
+
+    boolean existsById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select a.id as id, a.name as name from Artist a")
+    Stream<EntityNameInfo> streamAllNames();
+
+    @Query(value = """
+            select t.id as id, t.name as name,
+                   cast(greatest(ts_rank(t.name_tsv, websearch_to_tsquery('simple', :query)),
+                                 similarity(t.name, :query)) as double precision) as rank
+            from artist t
+            where t.name_tsv @@ websearch_to_tsquery('simple', :query)
+               or t.name % :query
+            order by rank desc, t.id
+            limit :limit
+            """, nativeQuery = true)
+    List<SearchHitInfo> searchByName(String query, int limit);
+
+    @Modifying
+    @Query(value = """
+            insert into artist_albums (artists_id, albums_id)
+            select ar.id, al.id
+            from artist ar, album al
+            where ar.id = :artistId and al.id = :albumId
+            on conflict do nothing
+            """, nativeQuery = true)
+    int addAlbumLink(Long artistId, Long albumId);
+
+    @Modifying
+    @Query(value = "delete from artist_albums where artists_id = :id", nativeQuery = true)
+    int deleteAlbumLinksById(Long id);
+
     @Modifying
     @Query("delete from Artist a where a.id = :id")
     int deleteById(Long id);
@@ -1,10 +1,14 @@
 package com.songify.domain.crud;
 
 import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.EntityVersionInfo;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,6 +27,22 @@ class ArtistRetriever {
 
     }
 
+    // covers exactly the artists of the requested page, changes on other pages keep this page's tag
+    String findVersionTag(Pageable pageable) {
+        String versions = artistRepository.findVersions(pageable)
+                .stream()
+                .sorted(Comparator.comparing(EntityVersionInfo::getId))
+                .map(artist -> artist.getId() + ":" + artist.getVersion())
+                .collect(Collectors.joining(","));
+        return "artists-" + DigestUtils.md5DigestAsHex((pageable + "|" + versions).getBytes(StandardCharsets.UTF_8));
+    }
+
+    void existsById(final Long artistId) {
+        if (!artistRepository.existsById(artistId)) {
+            throw new ArtistNotFoundException(artistId.toString());
+        }
+    }
+
     Artist findById(final Long artistId) {
         return artistRepository.findById(artistId)
                 .orElseThrow(() -> new ArtistNotFoundException(artistId.toString()));
@@ -1,6 +1,7 @@
 package com.songify.domain.crud;
 
 import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.SearchResultType;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -8,10 +9,12 @@ import org.springframework.stereotype.Service;
 @Service
 class ArtistUpdater {
     private final ArtistRetriever artistRetriever;
+    private final AutocompleteIndex autocompleteIndex;
 
     ArtistDto updateArtistNameById(final Long artistId, final String name) {
         Artist artist = artistRetriever.findById(artistId);
         artist.setName(name);
+        autocompleteIndex.put(SearchResultType.ARTIST, artist.getId(), artist.getName());
         return new ArtistDto(artist.getId(), artist.getName());
     }
 }
@@ -0,0 +1,177 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.AutocompleteSuggestionDto;
+import com.songify.domain.crud.dto.EntityNameInfo;
+import com.songify.domain.crud.dto.SearchResultType;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * In-process prefix index over song names, artist names and album titles.
+ * Entries are kept in a sorted set ordered by normalized name, type and id, so a prefix lookup is a tail-set scan
+ * returning suggestions alphabetically; per-type maps keyed by id find the entry to drop on rename or delete.
+ * An entry is the only object held per name: the id is a primitive, the sort key is the name itself when the name is
+ * already normalized, and suggestion DTOs are created for returned entries only. Reads are lock-free; writes are
+ * applied after the surrounding transaction commits, so a rolled back change never shows up in suggestions.
+ */
+@Component
+@Log4j2
+class AutocompleteIndex {
+    static final int MAX_LIMIT = 50;
+    private static final Comparator<Entry> ORDER = Comparator.comparing((Entry entry) -> entry.sortName)
+            .thenComparing(entry -> entry.type)
+            .thenComparingLong(entry -> entry.id);
+
+    private final SongRepository songRepository;
+    private final ArtistRepository artistRepository;
+    private final AlbumRepository albumRepository;
+
+    private volatile Entries entries = new Entries();
+
+    AutocompleteIndex(final SongRepository songRepository,
+                      final ArtistRepository artistRepository,
+                      final AlbumRepository albumRepository) {
+        this.songRepository = songRepository;
+        this.artistRepository = artistRepository;
+        this.albumRepository = albumRepository;
+    }
+
+    List<AutocompleteSuggestionDto> findByPrefix(final String prefix, final int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        String normalizedPrefix = normalize(prefix);
+        return entries.sorted.tailSet(Entry.lowestFor(normalizedPrefix))
+                .stream()
+                .takeWhile(entry -> entry.sortName.startsWith(normalizedPrefix))
+                .limit(Math.min(limit, MAX_LIMIT))
+                .map(Entry::toSuggestion)
+                .toList();
+    }
+
+    void put(final SearchResultType type, final Long id, final String name) {
+        afterCommit(() -> doPut(type, id, name));
+    }
+
+    void remove(final SearchResultType type, final Long id) {
+        afterCommit(() -> doRemove(type, id));
+    }
+
+    void removeAll(final SearchResultType type, final Collection<Long> ids) {
+        afterCommit(() -> ids.forEach(id -> doRemove(type, id)));
+    }
+
+    synchronized void rebuild() {
+        Entries rebuilt = new Entries();
+        try (Stream<EntityNameInfo> songs = songRepository.streamAllNames();
+             Stream<EntityNameInfo> artists = artistRepository.streamAllNames();
+             Stream<EntityNameInfo> albums = albumRepository.streamAllTitles()) {
+            songs.forEach(song -> index(rebuilt, SearchResultType.SONG, song));
+            artists.forEach(artist -> index(rebuilt, SearchResultType.ARTIST, artist));
+            albums.forEach(album -> index(rebuilt, SearchResultType.ALBUM, album));
+        }
+        entries = rebuilt;
+        log.info("autocomplete index rebuilt with " + rebuilt.size() + " entries");
+    }
+
+    private synchronized void doPut(final SearchResultType type, final Long id, final String name) {
+        if (name == null) {
+            doRemove(type, id);
+            return;
+        }
+        entries.put(new Entry(type, id, name));
+    }
+
+    private synchronized void doRemove(final SearchResultType type, final Long id) {
+        entries.remove(type, id);
+    }
+
+    private static void index(final Entries entries, final SearchResultType type, final EntityNameInfo entity) {
+        if (entity.getName() != null) {
+            entries.put(new Entry(type, entity.getId(), entity.getName()));
+        }
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String normalize(final String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entries {
+        private final ConcurrentSkipListSet<Entry> sorted = new ConcurrentSkipListSet<>(ORDER);
+        private final Map<SearchResultType, Map<Long, Entry>> byId = new EnumMap<>(SearchResultType.class);
+
+        private Entries() {
+            for (SearchResultType type : SearchResultType.values()) {
+                byId.put(type, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void put(final Entry entry) {
+            Entry previous = byId.get(entry.type).put(entry.id, entry);
+            if (previous != null) {
+                sorted.remove(previous);
+            }
+            sorted.add(entry);
+        }
+
+        private void remove(final SearchResultType type, final Long id) {
+            Entry previous = byId.get(type).remove(id);
+            if (previous != null) {
+                sorted.remove(previous);
+            }
+        }
+
+        private int size() {
+            return byId.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    private static final class Entry {
+        private final String sortName;
+        private final String name;
+        private final SearchResultType type;
+        private final long id;
+
+        private Entry(final SearchResultType type, final long id, final String name) {
+            String normalized = normalize(name);
+            this.sortName = normalized.equals(name) ? name : normalized;
+            this.name = name;
+            this.type = type;
+            this.id = id;
+        }
+
+        // sorts before every entry whose normalized name starts with the prefix
+        private static Entry lowestFor(final String normalizedPrefix) {
+            return new Entry(SearchResultType.values()[0], Long.MIN_VALUE, normalizedPrefix);
+        }
+
+        private AutocompleteSuggestionDto toSuggestion() {
+            return new AutocompleteSuggestionDto(type, id, name);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.AlbumImportRequestDto;
+import com.songify.domain.crud.dto.ArtistImportRequestDto;
+import com.songify.domain.crud.dto.ArtistImportResultDto;
+import com.songify.domain.crud.dto.SearchResultType;
+import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Log4j2
+@Service
+@AllArgsConstructor(access = lombok.AccessLevel.PACKAGE)
+class CatalogImporter {
+
+    private final ArtistRepository artistRepository;
+    private final AlbumRepository albumRepository;
+    private final SongRepository songRepository;
+    private final GenreRetriever genreRetriever;
+    private final AutocompleteIndex autocompleteIndex;
+
+    List<ArtistImportResultDto> importArtists(final List<ArtistImportRequestDto> artists) {
+        log.info("importing chunk of " + artists.size() + " artists");
+        Genre defaultGenre = genreRetriever.findDefaultGenre();
+        return artists.stream()
+                .map(artist -> importArtist(artist, defaultGenre))
+                .toList();
+    }
+
+    private ArtistImportResultDto importArtist(final ArtistImportRequestDto dto, final Genre defaultGenre) {
+        List<AlbumImportRequestDto> albums = dto.albums() == null ? List.of() : dto.albums();
+        Artist artist = new Artist(dto.name());
+        int songsCount = 0;
+        for (AlbumImportRequestDto albumDto : albums) {
+            Album album = new Album();
+            album.setTitle(albumDto.title());
+            album.setReleaseDate(albumDto.releaseDate());
+            List<SongRequestDto> songs = albumDto.songs() == null ? List.of() : albumDto.songs();
+            for (SongRequestDto songDto : songs) {
+                album.addSongToAlbum(saveSong(songDto, defaultGenre));
+                songsCount++;
+            }
+            Album savedAlbum = albumRepository.save(album);
+            autocompleteIndex.put(SearchResultType.ALBUM, savedAlbum.getId(), savedAlbum.getTitle());
+            artist.addAlbum(savedAlbum);
+        }
+        Artist savedArtist = artistRepository.save(artist);
+        autocompleteIndex.put(SearchResultType.ARTIST, savedArtist.getId(), savedArtist.getName());
+        return new ArtistImportResultDto(savedArtist.getId(), albums.size(), songsCount);
+    }
+
+    private Song saveSong(final SongRequestDto songDto, final Genre defaultGenre) {
+        SongLanguageDto language = songDto.language() == null ? SongLanguageDto.OTHER : songDto.language();
+        Song song = new Song(songDto.name(), songDto.releaseDate(), songDto.duration(), SongLanguage.valueOf(language.name()));
+        song.setGenre(defaultGenre);
+        Song savedSong = songRepository.save(song);
+        autocompleteIndex.put(SearchResultType.SONG, savedSong.getId(), savedSong.getName());
+        return savedSong;
+    }
+}
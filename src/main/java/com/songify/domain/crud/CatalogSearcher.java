@@ -0,0 +1,60 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.SearchHitInfo;
+import com.songify.domain.crud.dto.SearchPageDto;
+import com.songify.domain.crud.dto.SearchResultDto;
+import com.songify.domain.crud.dto.SearchResultType;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@AllArgsConstructor
+class CatalogSearcher {
+    static final int MAX_PAGE_SIZE = 50;
+    static final int MAX_RESULT_WINDOW = 1000;
+
+    private final SongRepository songRepository;
+    private final ArtistRepository artistRepository;
+    private final AlbumRepository albumRepository;
+
+    SearchPageDto search(final String query, final int page, final int size) {
+        if (query == null || query.isBlank()) {
+            return new SearchPageDto(List.of(), false);
+        }
+        String trimmedQuery = query.trim();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        // pages starting past the result window are empty; checked before multiplying, so no page number overflows the offset
+        if (pageNumber > (MAX_RESULT_WINDOW - 1) / pageSize) {
+            return new SearchPageDto(List.of(), false);
+        }
+        int offset = pageNumber * pageSize;
+        // each table returns its own top hits ranked by the same measure; one extra row tells whether there is a next page
+        int limit = Math.min(offset + pageSize + 1, MAX_RESULT_WINDOW);
+        List<SearchResultDto> ranked = Stream.of(
+                        toResults(SearchResultType.SONG, songRepository.searchByName(trimmedQuery, limit)),
+                        toResults(SearchResultType.ARTIST, artistRepository.searchByName(trimmedQuery, limit)),
+                        toResults(SearchResultType.ALBUM, albumRepository.searchByTitle(trimmedQuery, limit)))
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingDouble(SearchResultDto::rank).reversed()
+                        .thenComparing(SearchResultDto::type)
+                        .thenComparing(SearchResultDto::id))
+                .limit(limit)
+                .toList();
+        if (offset >= ranked.size()) {
+            return new SearchPageDto(List.of(), false);
+        }
+        List<SearchResultDto> results = ranked.subList(offset, Math.min(offset + pageSize, ranked.size()));
+        return new SearchPageDto(results, ranked.size() > offset + pageSize);
+    }
+
+    private static List<SearchResultDto> toResults(final SearchResultType type, final List<SearchHitInfo> hits) {
+        return hits.stream()
+                .map(hit -> new SearchResultDto(type, hit.getId(), hit.getName(), hit.getRank()))
+                .toList();
+    }
+}
@@ -21,7 +21,7 @@ class Genre extends BaseEntity {
     @SequenceGenerator(
             name = "genre_id_seq",
             sequenceName = "genre_id_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     private Long id;
 
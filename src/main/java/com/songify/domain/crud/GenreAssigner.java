@@ -10,12 +10,6 @@ class GenreAssigner {
     private final SongRetriever songRetriever;
     private final GenreRetriever genreRetriever;
 
-    void assignDefaultGenreToSong(Long songId) {
-        Song song = songRetriever.findSongById(songId);
-        Genre genre = genreRetriever.findGenreById(1L);
-        song.setGenre(genre);
-    }
-
     void assignGenreToSong(final Long genreId, final Long songId) {
         Song song = songRetriever.findSongById(songId);
         Genre genre = genreRetriever.findGenreById(genreId);
@@ -10,8 +10,14 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @Service
 class GenreRetriever {
+    static final Long DEFAULT_GENRE_ID = 1L;
+
     private final GenreRepository genreRepository;
 
+    Genre findDefaultGenre() {
+        return findGenreById(DEFAULT_GENRE_ID);
+    }
+
     Genre findGenreById(Long genreId) {
         return genreRepository
                 .findById(genreId)
@@ -0,0 +1,7 @@
+package com.songify.domain.crud;
+
+public class InvalidSongCursorException extends RuntimeException {
+    InvalidSongCursorException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.songify.domain.crud;
+
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the whole facade transaction when it lost a {@code @Version} race.
+ * The retry advice is ordered outside the transaction advice, so every attempt reloads fresh state.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+        retryFor = {OptimisticLockingFailureException.class, OptimisticLockException.class},
+        maxAttemptsExpression = "${songify.retry.optimistic-lock.max-attempts:4}",
+        backoff = @Backoff(
+                delayExpression = "${songify.retry.optimistic-lock.initial-delay:20}",
+                multiplierExpression = "${songify.retry.optimistic-lock.multiplier:2}",
+                maxDelayExpression = "${songify.retry.optimistic-lock.max-delay:500}",
+                random = true),
+        listeners = OptimisticLockRetry.LISTENER)
+@interface OptimisticLockRetry {
+    String LISTENER = "optimisticLockRetryListener";
+}
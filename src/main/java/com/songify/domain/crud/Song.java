@@ -30,8 +30,8 @@ import java.time.Instant;
 @AllArgsConstructor
 @Table(
         indexes = @Index(
-                name = "idx_song_name",
-                columnList = "name"
+                name = "idx_song_name_id",
+                columnList = "name, id"
         )
 
 )
@@ -41,7 +41,7 @@ class Song extends BaseEntity {
     @SequenceGenerator(
             name = "song_id_seq",
             sequenceName = "song_id_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     private Long id;
 
@@ -58,6 +58,9 @@ class Song extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private SongLanguage language;
 
+    @Column(name = "album_id", insertable = false, updatable = false)
+    private Long albumId;
+
     public Song(String name) {
         this.name = name;
     }
@@ -1,6 +1,7 @@
 package com.songify.domain.crud;
 
 import com.songify.domain.crud.dto.GenreDto;
+import com.songify.domain.crud.dto.SearchResultType;
 import com.songify.domain.crud.dto.SongDto;
 import com.songify.domain.crud.dto.SongLanguageDto;
 import com.songify.domain.crud.dto.SongRequestDto;
@@ -14,15 +15,17 @@ import org.springframework.stereotype.Service;
 class SongAdder {
 
     private final SongRepository songRepository;
-    private final GenreAssigner genreAssigner;
+    private final GenreRetriever genreRetriever;
+    private final AutocompleteIndex autocompleteIndex;
 
     SongDto addSong(final SongRequestDto songDto) {
         SongLanguageDto language = songDto.language();
         SongLanguage songLanguage = SongLanguage.valueOf(language.name());
         Song song = new Song(songDto.name(), songDto.releaseDate(), songDto.duration(), songLanguage);
+        song.setGenre(genreRetriever.findDefaultGenre());
         log.info("adding new song: " + song);
         Song save = songRepository.save(song);
-        genreAssigner.assignDefaultGenreToSong(song.getId());
+        autocompleteIndex.put(SearchResultType.SONG, save.getId(), save.getName());
         return new SongDto(save.getId(), save.getName(), new GenreDto(save.getGenre().getId(), save.getGenre().getName()));
     }
 
@@ -31,6 +34,8 @@ class SongAdder {
         SongLanguage songLanguage = SongLanguage.valueOf(language.name());
         Song song = new Song(songDto.name(), songDto.releaseDate(), songDto.duration(), songLanguage);
         log.info("adding new song: " + song);
-        return songRepository.save(song);
+        Song save = songRepository.save(song);
+        autocompleteIndex.put(SearchResultType.SONG, save.getId(), save.getName());
+        return save;
     }
 }
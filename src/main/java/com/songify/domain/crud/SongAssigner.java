@@ -8,17 +8,15 @@ import org.springframework.stereotype.Service;
 @Service
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 class SongAssigner {
+    private final SongRepository songRepository;
     private final AlbumRetriever albumRetriever;
     private final SongRetriever songRetriever;
 
     AlbumDto assignSongToAlbum(Long albumId, Long songId) {
-        Album album = albumRetriever.findById(albumId);
-        Song songById = songRetriever.findSongById(songId);
-        album.addSongToAlbum(songById);
-        return new AlbumDto(
-                album.getId(),
-                album.getTitle(),
-                album.getSongsIds()
-        );
+        if (songRepository.assignAlbumById(albumId, songId) == 0) {
+            albumRetriever.existsById(albumId);
+            songRetriever.findSongById(songId);
+        }
+        return albumRetriever.findDtoWithSongIdsById(albumId);
     }
 }
@@ -0,0 +1,32 @@
+package com.songify.domain.crud;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+record SongCursor(String name, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    static SongCursor from(Song song) {
+        return new SongCursor(song.getName(), song.getId());
+    }
+
+    static SongCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            Long id = Long.valueOf(decoded.substring(0, separatorIndex));
+            String name = decoded.substring(separatorIndex + 1);
+            return new SongCursor(name, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidSongCursorException("Cursor: " + cursor + " is not valid");
+        }
+    }
+
+    String encode() {
+        String raw = id + SEPARATOR + name;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,9 +1,11 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.SearchResultType;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -12,14 +14,26 @@ import java.util.Set;
 class SongDeleter {
 
     private final SongRepository songRepository;
+    private final AutocompleteIndex autocompleteIndex;
 
     void deleteById(Long id) {
         log.info("deleting song by id: " + id);
-        songRepository.deleteById(id);
+        if (songRepository.deleteById(id) == 0) {
+            throw new SongNotFoundException("Song with id: " + id + " not found");
+        }
+        autocompleteIndex.remove(SearchResultType.SONG, id);
     }
 
     void deleteAllSongsById(final Set<Long> songsIds) {
         songRepository.deleteByIdIn(songsIds);
+        autocompleteIndex.removeAll(SearchResultType.SONG, songsIds);
+    }
+
+    int deleteAllSongsByAlbumIds(final Set<Long> albumIds) {
+        List<Long> songIds = songRepository.findIdsByAlbumIdIn(albumIds);
+        int deleted = songRepository.deleteByAlbumIdIn(albumIds);
+        autocompleteIndex.removeAll(SearchResultType.SONG, songIds);
+        return deleted;
     }
 
 //    void deleteSongAndGenreById(final Long songId) {
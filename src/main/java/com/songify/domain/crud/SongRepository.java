@@ -1,13 +1,21 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.EntityNameInfo;
+import com.songify.domain.crud.dto.SearchHitInfo;
+import com.songify.domain.crud.dto.SongExportDto;
+import com.songify.domain.crud.dto.SongRowInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 interface SongRepository extends Repository<Song, Long> {
     @Query("""
@@ -16,16 +24,62 @@ interface SongRepository extends Repository<Song, Long> {
             """)
     List<Song> findAll(Pageable pageable);
 
+    @Query("""
+            SELECT s FROM Song s
+            join fetch s.genre
+            ORDER BY s.name, s.id
+            """)
+    List<Song> findFirstPageOrderByNameAndId(Pageable pageable);
+
+    @Query("""
+            SELECT s FROM Song s
+            join fetch s.genre
+            WHERE (s.name, s.id) > (:name, :id)
+            ORDER BY s.name, s.id
+            """)
+    List<Song> findAllAfterNameAndId(String name, Long id, Pageable pageable);
+
     @Query("SELECT s FROM Song s WHERE s.id = :id")
     Optional<Song> findById(Long id);
 
+    @Query("""
+            SELECT s FROM Song s
+            left join fetch s.genre
+            WHERE s.id in :ids
+            """)
+    List<Song> findAllByIdIn(Collection<Long> ids);
+
+    @Query("select s.id from Song s where s.id in :ids")
+    List<Long> findIdsByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            update song set album_id = :albumId, version = version + 1
+            where id = :id and exists (select 1 from album a where a.id = :albumId)
+            """, nativeQuery = true)
+    int assignAlbumById(Long albumId, Long id);
+
+    @Modifying
+    @Query(value = "update song set album_id = :albumId, version = version + 1 where id in :ids", nativeQuery = true)
+    int assignAlbumByIdIn(Long albumId, Collection<Long> ids);
+
     @Modifying
     @Query("DELETE FROM Song s WHERE s.id = :id")
-    void deleteById(Long id);
+    int deleteById(Long id);
 
     @Modifying
-    @Query("UPDATE Song s SET s.name = :#{#newSong.name} WHERE s.id = :id")
-    void updateById(Long id, Song newSong);
+    @Query("UPDATE versioned Song s SET s.name = :#{#newSong.name} WHERE s.id = :id")
+    int updateById(Long id, Song newSong);
+
+    @Query(value = """
+            update song s
+            set name = coalesce(cast(:name as varchar), s.name),
+                version = s.version + 1
+            where s.id = :id
+            returning s.id as "id", s.name as "name", s.genre_id as "genreId",
+                      (select g.name from genre g where g.id = s.genre_id) as "genreName"
+            """, nativeQuery = true)
+    Optional<SongRowInfo> updateNameIfPresentReturningRow(Long id, String name);
 
     Song save(Song song);
 
@@ -34,4 +88,37 @@ interface SongRepository extends Repository<Song, Long> {
     @Modifying
     @Query("delete from Song s where s.id in :ids")
     int deleteByIdIn(Collection<Long> ids);
+
+    @Query(value = """
+            select t.id as id, t.name as name,
+                   cast(greatest(ts_rank(t.name_tsv, websearch_to_tsquery('simple', :query)),
+                                 similarity(t.name, :query)) as double precision) as rank
+            from song t
+            where t.name_tsv @@ websearch_to_tsquery('simple', :query)
+               or t.name % :query
+            order by rank desc, t.id
+            limit :limit
+            """, nativeQuery = true)
+    List<SearchHitInfo> searchByName(String query, int limit);
+
+    @Query("select s.id from Song s where s.albumId in :albumIds")
+    List<Long> findIdsByAlbumIdIn(Collection<Long> albumIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select s.id as id, s.name as name from Song s")
+    Stream<EntityNameInfo> streamAllNames();
+
+    @Modifying
+    @Query("delete from Song s where s.albumId in :albumIds")
+    int deleteByAlbumIdIn(Collection<Long> albumIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.songify.domain.crud.dto.SongExportDto(
+                s.id, s.name, s.releaseDate, s.duration, cast(s.language as String), g.name, s.albumId)
+            from Song s
+            left join s.genre g
+            order by s.id
+            """)
+    Stream<SongExportDto> streamAllForExport();
 }
@@ -2,32 +2,70 @@ package com.songify.domain.crud;
 
 import com.songify.domain.crud.dto.GenreDto;
 import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongExportDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongPageDto;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Log4j2
 @AllArgsConstructor(access = lombok.AccessLevel.PACKAGE)
 class SongRetriever {
 
+    static final int MAX_IDS_PER_LOOKUP = 500;
+
     private final SongRepository songRepository;
+    private final CacheManager cacheManager;
 
     List<SongDto> findAll(Pageable pageable) {
         log.info("retrieving all songs: ");
         return songRepository.findAll(pageable)
                 .stream()
-                .map(song -> SongDto.builder()
-                        .id(song.getId())
-                        .name(song.getName())
-                        .genre(new GenreDto(song.getGenre().getId(), song.getGenre().getName()))
-                        .build())
+                .map(this::mapFromSong)
                 .toList();
     }
 
+    SongPageDto findAllAfter(String cursor, int size) {
+        log.info("retrieving songs after cursor: " + cursor);
+        Pageable limit = PageRequest.ofSize(size);
+        List<Song> songs = cursor == null || cursor.isBlank()
+                ? songRepository.findFirstPageOrderByNameAndId(limit)
+                : findAllAfter(SongCursor.decode(cursor), limit);
+        String nextCursor = songs.size() < size
+                ? null
+                : SongCursor.from(songs.get(songs.size() - 1)).encode();
+        List<SongDto> songDtos = songs.stream()
+                .map(this::mapFromSong)
+                .toList();
+        return new SongPageDto(songDtos, nextCursor);
+    }
+
+    void exportAll(Consumer<SongExportDto> consumer) {
+        log.info("exporting all songs");
+        try (Stream<SongExportDto> songs = songRepository.streamAllForExport()) {
+            songs.forEach(consumer);
+        }
+    }
+
+    private List<Song> findAllAfter(SongCursor cursor, Pageable limit) {
+        return songRepository.findAllAfterNameAndId(cursor.name(), cursor.id(), limit);
+    }
+
     SongDto findSongDtoById(Long id) {
         return songRepository.findById(id)
                 .map(song -> SongDto.builder()
@@ -42,15 +80,59 @@ class SongRetriever {
                 .orElseThrow(() -> new SongNotFoundException("Song with id: " + id + " not found"));
     }
 
+    void requireAllExist(Set<Long> ids) {
+        Set<Long> existingIds = new HashSet<>(songRepository.findIdsByIdIn(ids));
+        if (existingIds.size() == ids.size()) {
+            return;
+        }
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !existingIds.contains(id))
+                .sorted()
+                .toList();
+        throw new SongNotFoundException("Songs with ids: " + missingIds + " not found");
+    }
+
     Song findSongById(Long id) {
         return songRepository.findById(id)
                 .orElseThrow(() -> new SongNotFoundException("Song with id: " + id + " not found"));
     }
 
-    void existsById(Long id) {
-        if (!songRepository.existsById(id)) {
-            throw new SongNotFoundException("Song with id: " + id + " not found");
+    List<SongLookupDto> findAllByIds(List<Long> ids) {
+        if (ids.size() > MAX_IDS_PER_LOOKUP) {
+            throw new TooManySongIdsException("Can not look up more than " + MAX_IDS_PER_LOOKUP + " songs at once");
         }
+        Map<Long, SongDto> songsById = new HashMap<>();
+        Cache cache = cacheManager.getCache(SongifyCrudFacade.SONGS_CACHE);
+        if (cache != null) {
+            ids.forEach(id -> {
+                SongDto cached = cache.get(id, SongDto.class);
+                if (cached != null) {
+                    songsById.put(id, cached);
+                }
+            });
+        }
+        Set<Long> missingIds = ids.stream()
+                .filter(id -> !songsById.containsKey(id))
+                .collect(Collectors.toSet());
+        if (!missingIds.isEmpty()) {
+            songRepository.findAllByIdIn(missingIds)
+                    .forEach(song -> songsById.put(song.getId(), mapFromSong(song)));
+        }
+        log.info("looked up " + ids.size() + " songs, " + (ids.size() - missingIds.size()) + " from cache");
+        return ids.stream()
+                .map(id -> songsById.containsKey(id)
+                        ? SongLookupDto.found(songsById.get(id))
+                        : SongLookupDto.notFound(id))
+                .toList();
+    }
+
+    private SongDto mapFromSong(Song song) {
+        Genre genre = song.getGenre();
+        return SongDto.builder()
+                .id(song.getId())
+                .name(song.getName())
+                .genre(genre == null ? null : new GenreDto(genre.getId(), genre.getName()))
+                .build();
     }
 
 }
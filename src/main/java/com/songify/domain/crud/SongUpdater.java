@@ -1,18 +1,39 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.GenreDto;
+import com.songify.domain.crud.dto.SearchResultType;
+import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongRowInfo;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @Log4j2
 @AllArgsConstructor(access = lombok.AccessLevel.PACKAGE)
 class SongUpdater {
 
     private final SongRepository songRepository;
+    private final AutocompleteIndex autocompleteIndex;
 
     void updateById(Long id, Song newSong) {
-        songRepository.updateById(id, newSong);
+        if (songRepository.updateById(id, newSong) == 0) {
+            throw new SongNotFoundException("Song with id: " + id + " not found");
+        }
+        autocompleteIndex.put(SearchResultType.SONG, id, newSong.getName());
+    }
+
+    int assignAlbum(Long albumId, Set<Long> songIds) {
+        return songRepository.assignAlbumByIdIn(albumId, songIds);
+    }
+
+    SongDto updatePartiallyById(Long id, String name) {
+        SongRowInfo row = songRepository.updateNameIfPresentReturningRow(id, name)
+                .orElseThrow(() -> new SongNotFoundException("Song with id: " + id + " not found"));
+        autocompleteIndex.put(SearchResultType.SONG, id, row.getName());
+        return new SongDto(row.getId(), row.getName(), new GenreDto(row.getGenreId(), row.getGenreName()));
     }
 
 // Dirty checking version
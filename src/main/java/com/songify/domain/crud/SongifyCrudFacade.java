@@ -1,26 +1,43 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.AlbumDetailsDto;
 import com.songify.domain.crud.dto.AlbumDto;
-import com.songify.domain.crud.dto.AlbumInfo;
+import com.songify.domain.crud.dto.AlbumExportDto;
 import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.ArtistDeletionResultDto;
 import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.ArtistImportRequestDto;
+import com.songify.domain.crud.dto.ArtistImportResultDto;
 import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.AutocompleteSuggestionDto;
 import com.songify.domain.crud.dto.GenreDto;
 import com.songify.domain.crud.dto.GenreRequestDto;
+import com.songify.domain.crud.dto.SearchPageDto;
 import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongExportDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongPageDto;
 import com.songify.domain.crud.dto.SongRequestDto;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @AllArgsConstructor
 @Transactional
+@Timed(value = SongifyCrudFacade.METRIC_NAME, description = "SongifyCrudFacade operations", histogram = true)
 public class SongifyCrudFacade {
+    public static final String SONGS_CACHE = "songs";
+    public static final String METRIC_NAME = "songify.facade";
 
     private final SongRetriever songRetriever;
     private final SongUpdater songUpdater;
@@ -37,6 +54,9 @@ public class SongifyCrudFacade {
     private final GenreRetriever genreRetriever;
     private final GenreAssigner genreAssigner;
     private final SongAssigner songAssigner;
+    private final CatalogImporter catalogImporter;
+    private final CatalogSearcher catalogSearcher;
+    private final AutocompleteIndex autocompleteIndex;
 
 
     public ArtistDto addArtist(ArtistRequestDto dto) {
@@ -55,22 +75,38 @@ public class SongifyCrudFacade {
         return songAdder.addSong(dto);
     }
 
+    @Transactional(readOnly = true)
     public Set<ArtistDto> findAllArtist(Pageable pageable) {
         return artistRetriever.findAllArtists(pageable);
     }
 
-    public AlbumInfo findAlbumByIdWithArtistAndSongs(Long id) {
+    @Transactional(readOnly = true)
+    public String findArtistsVersionTag(Pageable pageable) {
+        return artistRetriever.findVersionTag(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public AlbumDetailsDto findAlbumByIdWithArtistAndSongs(Long id) {
         return albumRetriever.findAlbumByIdWithArtistsAndSongs(id);
     }
 
-    public void deleteArtistByIdWithAlbumsAndSongs(Long artistId) {
-        artistDeleter.deleteArtistsByIdWithAlbumsAndSongs(artistId);
+    @Transactional(readOnly = true)
+    public String findAlbumVersionTag(Long id) {
+        return albumRetriever.findVersionTagById(id);
+    }
+
+    @CacheEvict(cacheNames = SONGS_CACHE, allEntries = true)
+    @OptimisticLockRetry
+    public ArtistDeletionResultDto deleteArtistByIdWithAlbumsAndSongs(Long artistId) {
+        return artistDeleter.deleteArtistsByIdWithAlbumsAndSongs(artistId);
     }
 
+    @OptimisticLockRetry
     public void addArtistToAlbum(Long artistId, Long albumId) {
         artistAssigner.addArtistToAlbum(artistId, albumId);
     }
 
+    @OptimisticLockRetry
     public ArtistDto updateArtistNameById(Long artistId, String name) {
         return artistUpdater.updateArtistNameById(artistId, name);
     }
@@ -79,67 +115,72 @@ public class SongifyCrudFacade {
         return artistAdder.addArtistWithDefaultAlbumAndSong(dto);
     }
 
+    @Transactional(readOnly = true)
     public List<SongDto> findAllSongs(Pageable pageable) {
         return songRetriever.findAll(pageable);
 
     }
 
+    @Transactional(readOnly = true)
+    public SongPageDto findAllSongsAfter(String cursor, int size) {
+        return songRetriever.findAllAfter(cursor, size);
+    }
+
+    // not read-only on purpose: cache entries are loaded from the primary, a lagging replica would be cached for minutes
+    @Cacheable(cacheNames = SONGS_CACHE, key = "#id", sync = true)
     public SongDto findSongDtoById(Long id) {
         return songRetriever.findSongDtoById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<SongLookupDto> findSongsByIds(List<Long> ids) {
+        return songRetriever.findAllByIds(ids);
+    }
+
+    @CacheEvict(cacheNames = SONGS_CACHE, key = "#id")
     public void updateSongById(Long id, SongDto newSongDto) {
-        songRetriever.existsById(id);
         // some domain validator
         Song songValidatedAndReadyToUpdate = new Song(newSongDto.name());
         // some domain validator ended checking
         songUpdater.updateById(id, songValidatedAndReadyToUpdate);
     }
 
+    @CacheEvict(cacheNames = SONGS_CACHE, key = "#id")
     public SongDto updateSongPartiallyById(Long id, SongDto songFromRequest) {
-        songRetriever.existsById(id);
-        Song songFromDatabase = songRetriever.findSongById(id);
-        Song toSave = new Song();
-        if (songFromRequest.name() != null) {
-            toSave.setName(songFromRequest.name());
-        } else {
-            toSave.setName(songFromDatabase.getName());
-        }
 //        todo
 //        if (songFromRequest.getArtist() != null) {
 //            builder.artist(songFromRequest.getArtist());
-//        } else {
-//            builder.artist(songFromDatabase.getArtist());
 //        }
-        songUpdater.updateById(id, toSave);
-        return SongDto.builder()
-                .id(toSave.getId())
-                .name(toSave.getName())
-                .build();
-
+        return songUpdater.updatePartiallyById(id, songFromRequest.name());
     }
 
+    @CacheEvict(cacheNames = SONGS_CACHE, key = "#id")
     public void deleteSongById(Long id) {
-        songRetriever.existsById(id);
         songDeleter.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public Set<AlbumDto> findAlbumsByArtistId(Long artistId) {
         return albumRetriever.findAlbumsDtoByArtistId(artistId);
     }
 
+    @Transactional(readOnly = true)
     public AlbumDto findAlbumById(final Long albumId) {
         return albumRetriever.findDtoById(albumId);
     }
 
+    @Transactional(readOnly = true)
     public Set<AlbumDto> findAllAlbums() {
         return albumRetriever.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Set<GenreDto> retrieveGenres() {
         return genreRetriever.findAll();
     }
 
+    @CacheEvict(cacheNames = SONGS_CACHE, key = "#songId")
+    @OptimisticLockRetry
     public void assignGenreToSong(final Long genreId, final Long songId) {
         genreAssigner.assignGenreToSong(genreId, songId);
     }
@@ -148,6 +189,36 @@ public class SongifyCrudFacade {
         return songAssigner.assignSongToAlbum(albumId,songId);
     }
 
+    public List<ArtistImportResultDto> importArtists(final List<ArtistImportRequestDto> artists) {
+        return catalogImporter.importArtists(artists);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPageDto search(final String query, final int page, final int size) {
+        return catalogSearcher.search(query, page, size);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AutocompleteSuggestionDto> autocomplete(final String prefix, final int limit) {
+        return autocompleteIndex.findByPrefix(prefix, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuildAutocompleteIndex() {
+        autocompleteIndex.rebuild();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportSongs(final Consumer<SongExportDto> consumer) {
+        songRetriever.exportAll(consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAlbums(final Consumer<AlbumExportDto> consumer) {
+        albumRetriever.exportAll(consumer);
+    }
+
+    @Transactional(readOnly = true)
     int countArtistByAlbumId(final Long albumId) {
         return albumRetriever.countArtistsByAlbumId(albumId);
 
@@ -1,28 +1,33 @@
 package com.songify.domain.crud;
 
+import org.springframework.cache.support.NoOpCacheManager;
+
 class SongifyCrudFacadeConfiguration {
 
     public static SongifyCrudFacade createSongifyCrud(final SongRepository songRepository,
                                                       final GenreRepository genreRepository,
                                                       final ArtistRepository artistRepository,
                                                       final AlbumRepository albumRepository){
-        SongRetriever songRetriever = new SongRetriever(songRepository);
-        SongUpdater songUpdater = new SongUpdater(songRepository);
-        AlbumAdder albumAdder = new AlbumAdder(songRetriever, albumRepository);
+        AutocompleteIndex autocompleteIndex = new AutocompleteIndex(songRepository, artistRepository, albumRepository);
+        SongRetriever songRetriever = new SongRetriever(songRepository, new NoOpCacheManager());
+        SongUpdater songUpdater = new SongUpdater(songRepository, autocompleteIndex);
+        AlbumAdder albumAdder = new AlbumAdder(songRetriever, songUpdater, albumRepository, autocompleteIndex);
         ArtistRetriever artistRetriever = new ArtistRetriever(artistRepository);
         AlbumRetriever albumRetriever = new AlbumRetriever(albumRepository);
         GenreDeleter genreDeleter = new GenreDeleter(genreRepository);
-        SongDeleter songDeleter = new SongDeleter(songRepository);
+        SongDeleter songDeleter = new SongDeleter(songRepository, autocompleteIndex);
         GenreRetriever genreRetriever = new GenreRetriever(genreRepository);
         GenreAssigner genreAssigner = new GenreAssigner(songRetriever, genreRetriever);
-        SongAdder songAdder = new SongAdder(songRepository, genreAssigner);
-        ArtistAdder artistAdder = new ArtistAdder(artistRepository,albumAdder,songAdder);
+        SongAdder songAdder = new SongAdder(songRepository, genreRetriever, autocompleteIndex);
+        ArtistAdder artistAdder = new ArtistAdder(artistRepository, albumAdder, songAdder, autocompleteIndex);
         GenreAdder genreAdder = new GenreAdder(genreRepository);
-        AlbumDeleter albumDeleter = new AlbumDeleter(albumRepository);
-        ArtistDeleter artistDeleter = new ArtistDeleter(artistRepository, artistRetriever, albumRetriever, albumDeleter, songDeleter);
-        ArtistAssigner artistAssigner = new ArtistAssigner(artistRetriever, albumRetriever);
-        ArtistUpdater artistUpdater = new ArtistUpdater(artistRetriever);
-        SongAssigner songAssigner = new SongAssigner(albumRetriever,songRetriever);
+        AlbumDeleter albumDeleter = new AlbumDeleter(albumRepository, autocompleteIndex);
+        ArtistDeleter artistDeleter = new ArtistDeleter(artistRepository, albumRetriever, albumDeleter, songDeleter, autocompleteIndex);
+        ArtistAssigner artistAssigner = new ArtistAssigner(artistRepository, artistRetriever, albumRetriever);
+        ArtistUpdater artistUpdater = new ArtistUpdater(artistRetriever, autocompleteIndex);
+        SongAssigner songAssigner = new SongAssigner(songRepository, albumRetriever, songRetriever);
+        CatalogImporter catalogImporter = new CatalogImporter(artistRepository, albumRepository, songRepository, genreRetriever, autocompleteIndex);
+        CatalogSearcher catalogSearcher = new CatalogSearcher(songRepository, artistRepository, albumRepository);
         return new SongifyCrudFacade(
                 songRetriever,
                 songUpdater,
@@ -38,7 +43,10 @@ class SongifyCrudFacadeConfiguration {
                 artistUpdater,
                 genreRetriever,
                 genreAssigner,
-                songAssigner
+                songAssigner,
+                catalogImporter,
+                catalogSearcher,
+                autocompleteIndex
         );
     }
 }
@@ -0,0 +1,7 @@
+package com.songify.domain.crud;
+
+public class TooManySongIdsException extends RuntimeException {
+    TooManySongIdsException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.songify.domain.crud.dto;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record AlbumDetailsDto(
+        Long id,
+        String title,
+        Instant releaseDate,
+        Set<AlbumSongDto> songs,
+        Set<ArtistDto> artists
+) {
+}
@@ -0,0 +1,10 @@
+package com.songify.domain.crud.dto;
+
+import java.time.Instant;
+
+public record AlbumExportDto(
+        Long id,
+        String title,
+        Instant releaseDate
+) {
+}
@@ -0,0 +1,14 @@
+package com.songify.domain.crud.dto;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+@Builder
+public record AlbumImportRequestDto(
+        String title,
+        Instant releaseDate,
+        List<SongRequestDto> songs
+) {
+}
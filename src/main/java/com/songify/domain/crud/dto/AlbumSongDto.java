@@ -0,0 +1,12 @@
+package com.songify.domain.crud.dto;
+
+import java.time.Instant;
+
+public record AlbumSongDto(
+        Long id,
+        String name,
+        Instant releaseDate,
+        Long duration,
+        GenreDto genre
+) {
+}
@@ -0,0 +1,9 @@
+package com.songify.domain.crud.dto;
+
+public interface AlbumSongIdInfo {
+    Long getAlbumId();
+
+    String getTitle();
+
+    Long getSongId();
+}
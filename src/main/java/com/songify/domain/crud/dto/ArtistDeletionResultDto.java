@@ -0,0 +1,8 @@
+package com.songify.domain.crud.dto;
+
+public record ArtistDeletionResultDto(
+        Long artistId,
+        int deletedSongs,
+        int deletedAlbums
+) {
+}
@@ -0,0 +1,12 @@
+package com.songify.domain.crud.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ArtistImportRequestDto(
+        String name,
+        List<AlbumImportRequestDto> albums
+) {
+}
@@ -0,0 +1,8 @@
+package com.songify.domain.crud.dto;
+
+public record ArtistImportResultDto(
+        Long artistId,
+        int albums,
+        int songs
+) {
+}
@@ -0,0 +1,8 @@
+package com.songify.domain.crud.dto;
+
+public record AutocompleteSuggestionDto(
+        SearchResultType type,
+        Long id,
+        String name
+) {
+}
@@ -0,0 +1,7 @@
+package com.songify.domain.crud.dto;
+
+public interface EntityNameInfo {
+    Long getId();
+
+    String getName();
+}
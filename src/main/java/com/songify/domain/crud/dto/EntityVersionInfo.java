@@ -0,0 +1,7 @@
+package com.songify.domain.crud.dto;
+
+public interface EntityVersionInfo {
+    Long getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,9 @@
+package com.songify.domain.crud.dto;
+
+public interface SearchHitInfo {
+    Long getId();
+
+    String getName();
+
+    Double getRank();
+}
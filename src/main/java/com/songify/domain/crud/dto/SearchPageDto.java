@@ -0,0 +1,9 @@
+package com.songify.domain.crud.dto;
+
+import java.util.List;
+
+public record SearchPageDto(
+        List<SearchResultDto> results,
+        boolean hasNext
+) {
+}
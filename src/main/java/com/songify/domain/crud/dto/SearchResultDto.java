@@ -0,0 +1,9 @@
+package com.songify.domain.crud.dto;
+
+public record SearchResultDto(
+        SearchResultType type,
+        Long id,
+        String name,
+        double rank
+) {
+}
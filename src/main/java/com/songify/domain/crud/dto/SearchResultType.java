@@ -0,0 +1,7 @@
+package com.songify.domain.crud.dto;
+
+public enum SearchResultType {
+    SONG,
+    ARTIST,
+    ALBUM
+}
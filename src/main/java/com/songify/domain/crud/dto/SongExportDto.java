@@ -0,0 +1,14 @@
+package com.songify.domain.crud.dto;
+
+import java.time.Instant;
+
+public record SongExportDto(
+        Long id,
+        String name,
+        Instant releaseDate,
+        Long duration,
+        String language,
+        String genre,
+        Long albumId
+) {
+}
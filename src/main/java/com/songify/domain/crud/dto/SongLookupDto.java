@@ -0,0 +1,15 @@
+package com.songify.domain.crud.dto;
+
+public record SongLookupDto(
+        Long id,
+        boolean found,
+        SongDto song
+) {
+    public static SongLookupDto found(SongDto song) {
+        return new SongLookupDto(song.id(), true, song);
+    }
+
+    public static SongLookupDto notFound(Long id) {
+        return new SongLookupDto(id, false, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.songify.domain.crud.dto;
+
+import java.util.List;
+
+public record SongPageDto(
+        List<SongDto> songs,
+        String nextCursor
+) {
+}
@@ -0,0 +1,11 @@
+package com.songify.domain.crud.dto;
+
+public interface SongRowInfo {
+    Long getId();
+
+    String getName();
+
+    Long getGenreId();
+
+    String getGenreName();
+}
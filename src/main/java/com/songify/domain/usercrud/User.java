@@ -26,7 +26,7 @@ public class User extends BaseEntity {
     @SequenceGenerator(
             name = "users_id_seq",
             sequenceName = "users_id_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     private Long id;
     @Column(nullable = false, unique = true)
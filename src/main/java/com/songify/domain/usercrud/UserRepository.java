@@ -1,6 +1,9 @@
 package com.songify.domain.usercrud;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +13,9 @@ public interface UserRepository extends Repository<User, Long> {
     User save(User user);
 
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("delete from User u where u.email = :email")
+    int deleteByEmail(String email);
 }
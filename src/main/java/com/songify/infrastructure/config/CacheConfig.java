@@ -0,0 +1,57 @@
+package com.songify.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.infrastructure.jfr.JfrStatsCounter;
+import com.songify.infrastructure.security.SecurityUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+
+/**
+ * Cache advice runs outside the facade transaction, so evictions happen after commit. Only the JFR facade aspect
+ * is ordered further out, so cache hits are still recorded.
+ * Together with {@code sync = true} loads (Caffeine computes per key), a reader that
+ * started before a write cannot leave a stale entry behind once the write has committed.
+ * <p>
+ * On virtual threads the songs cache is asynchronous: the map compute only stores a pending future and the load runs
+ * on a virtual thread of its own. A load parked on a connection permit therefore holds no carrier pinned inside
+ * Caffeine, callers wait on the future unpinned, and an eviction still discards a load that is in flight.
+ * <p>
+ * The {@code users} cache holds principals resolved by {@code JwtAuthConverter}; it has its own short TTL.
+ * Hits and misses of both caches are also emitted as JFR events - see {@link JfrStatsCounter}.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+class CacheConfig {
+    @Bean
+    CacheManager cacheManager(@Value("${songify.cache.songs.spec}") String songsSpec,
+                              @Value("${songify.cache.users.spec}") String usersSpec,
+                              Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        Caffeine<Object, Object> songs = Caffeine.from(songsSpec)
+                .recordStats(() -> new JfrStatsCounter(SongifyCrudFacade.SONGS_CACHE));
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor loader = new SimpleAsyncTaskExecutor("songs-cache-load-");
+            loader.setVirtualThreads(true);
+            cacheManager.setAsyncCacheMode(true);
+            songs.executor(loader);
+        }
+        cacheManager.setCaffeine(songs);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(SongifyCrudFacade.SONGS_CACHE));
+        cacheManager.registerCustomCache(SecurityUser.USERS_CACHE,
+                Caffeine.from(usersSpec).recordStats(() -> new JfrStatsCounter(SecurityUser.USERS_CACHE)).build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,48 @@
+package com.songify.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps every Hikari pool - the application pool, or the primary and replica pools behind the routing proxy -
+ * in its own {@link ConnectionLimitingDataSource}. Each pool gets as many permits as it has connections unless
+ * {@code songify.datasource.connection-limit.permits} says otherwise. Enabled together with virtual threads by
+ * default, where the number of concurrent requests is no longer bounded by the Tomcat worker pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "songify.datasource.connection-limit.enabled", havingValue = "true")
+class ConnectionLimitConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                return new ConnectionLimitingDataSource(beanName, pool,
+                        environment.getProperty("songify.datasource.connection-limit.permits", Integer.class,
+                                pool.getMaximumPoolSize()),
+                        environment.getRequiredProperty("songify.datasource.connection-limit.acquire-timeout", Duration.class));
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionLimitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.stream()
+                .filter(ConnectionLimitingDataSource.class::isInstance)
+                .map(ConnectionLimitingDataSource.class::cast)
+                .forEach(limited -> limited.bindTo(registry));
+    }
+}
@@ -0,0 +1,143 @@
+package com.songify.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most {@code permits} callers hold a connection at once, everybody else parks on a fair semaphore before
+ * reaching the pool. A parked virtual thread costs a few hundred bytes and no carrier, while thousands of threads
+ * waiting inside Hikari would all run into its connection timeout. The permit is returned when the connection
+ * is closed. Meters are tagged with the pool they guard.
+ */
+class ConnectionLimitingDataSource extends DelegatingDataSource implements MeterBinder, AutoCloseable {
+    static final String METRIC_PREFIX = "songify.datasource.connection.limit";
+
+    private final String poolName;
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration acquireTimeout;
+    private volatile Timer acquireTimer;
+
+    ConnectionLimitingDataSource(final String poolName, final DataSource targetDataSource, final int maxPermits,
+                                 final Duration acquireTimeout) {
+        super(targetDataSource);
+        this.poolName = poolName;
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Tags tags = Tags.of("pool", poolName);
+        Gauge.builder(METRIC_PREFIX + ".waiting", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a connection permit")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".in.use", permits, semaphore -> maxPermits - semaphore.availablePermits())
+                .description("Connection permits currently held")
+                .tags(tags)
+                .register(registry);
+        acquireTimer = Timer.builder(METRIC_PREFIX + ".acquire")
+                .description("Time spent waiting for a connection permit")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // the wrapper replaces the pool bean, so the pool is closed through it on shutdown
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Connection permit not available after "
+                        + acquireTimeout.toMillis() + "ms, " + permits.getQueueLength() + " threads waiting for " + poolName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        } finally {
+            Timer timer = acquireTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Connection limited(final Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(final Connection target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
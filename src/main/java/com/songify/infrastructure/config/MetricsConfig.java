@@ -0,0 +1,31 @@
+package com.songify.infrastructure.config;
+
+import com.songify.domain.crud.SongifyCrudFacade;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Facade timers come from the class level {@code @Timed} on {@link SongifyCrudFacade}, repository timers from
+ * Spring Data ({@code spring.data.repository.invocations}), pool gauges from Hikari and {@code hibernate.*}
+ * meters from hibernate-micrometer. Method tags are capped so a bug can never explode the series count.
+ */
+@Configuration
+class MetricsConfig {
+    private static final String REPOSITORY_METRIC_NAME = "spring.data.repository.invocations";
+    private static final int MAX_FACADE_METHODS = 100;
+    private static final int MAX_REPOSITORY_METHODS = 200;
+
+    @Bean
+    MeterRegistryCustomizer<MeterRegistry> songifyMeterRegistryCustomizer(@Value("${spring.application.name:songify}") String application) {
+        return registry -> registry.config()
+                .commonTags("application", application)
+                .meterFilter(MeterFilter.maximumAllowableTags(
+                        SongifyCrudFacade.METRIC_NAME, "method", MAX_FACADE_METHODS, MeterFilter.deny()))
+                .meterFilter(MeterFilter.maximumAllowableTags(
+                        REPOSITORY_METRIC_NAME, "method", MAX_REPOSITORY_METHODS, MeterFilter.deny()));
+    }
+}
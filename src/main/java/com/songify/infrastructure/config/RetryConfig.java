@@ -0,0 +1,58 @@
+package com.songify.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+
+/**
+ * Retry advice keeps its default order, which is just outside the transaction advice,
+ * so a retried facade method always starts a new transaction.
+ */
+@Configuration
+@EnableRetry
+@Log4j2
+class RetryConfig {
+
+    @Bean
+    RetryListener optimisticLockRetryListener(MeterRegistry meterRegistry) {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+                if (!isConflict(throwable)) {
+                    return;
+                }
+                log.warn("optimistic lock conflict in " + operation(callback) + ", attempt " + context.getRetryCount());
+                meterRegistry.counter("songify.optimistic.lock.conflicts", "operation", operation(callback)).increment();
+            }
+
+            @Override
+            public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+                if (isConflict(throwable)) {
+                    meterRegistry.counter("songify.optimistic.lock.exhausted", "operation", operation(callback)).increment();
+                } else if (context.getRetryCount() > 0) {
+                    meterRegistry.counter("songify.optimistic.lock.recovered", "operation", operation(callback)).increment();
+                }
+            }
+        };
+    }
+
+    private static boolean isConflict(Throwable throwable) {
+        return throwable instanceof OptimisticLockingFailureException
+                || throwable instanceof OptimisticLockException;
+    }
+
+    private static String operation(RetryCallback<?, ?> callback) {
+        if (callback instanceof MethodInvocationRetryCallback<?, ?> invocationCallback) {
+            return invocationCallback.getInvocation().getMethod().getName();
+        }
+        return "unknown";
+    }
+}
@@ -1,10 +1,11 @@
 package com.songify.infrastructure.crud.album;
 
 import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AlbumDetailsDto;
 import com.songify.domain.crud.dto.AlbumDto;
-import com.songify.domain.crud.dto.AlbumInfo;
 import com.songify.domain.crud.dto.AlbumRequestDto;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Set;
 
@@ -36,9 +38,13 @@ class AlbumController {
     }
 
     @GetMapping("/{albumId}")
-    ResponseEntity<AlbumInfo> getAlbumWithArtistsAndSongs(@PathVariable Long albumId) {
-        AlbumInfo albumByIdWithArtistAndSongs = songifyCrudFacade.findAlbumByIdWithArtistAndSongs(albumId);
-        return ResponseEntity.ok(albumByIdWithArtistAndSongs);
+    ResponseEntity<AlbumDetailsDto> getAlbumWithArtistsAndSongs(@PathVariable Long albumId, WebRequest webRequest) {
+        String eTag = songifyCrudFacade.findAlbumVersionTag(albumId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        AlbumDetailsDto albumByIdWithArtistAndSongs = songifyCrudFacade.findAlbumByIdWithArtistAndSongs(albumId);
+        return ResponseEntity.ok().eTag(eTag).body(albumByIdWithArtistAndSongs);
     }
 
     @PutMapping("/{albumId}/songs/{songId}")
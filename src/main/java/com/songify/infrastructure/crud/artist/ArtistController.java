@@ -1,11 +1,13 @@
 package com.songify.infrastructure.crud.artist;
 
 import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.ArtistDeletionResultDto;
 import com.songify.domain.crud.dto.ArtistDto;
 import com.songify.domain.crud.dto.ArtistRequestDto;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,6 +18,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
 
 import java.util.Set;
 
@@ -38,17 +42,21 @@ class ArtistController {
     }
 
     @GetMapping
-    ResponseEntity<AllArtistsDto> getArtists(Pageable pageable) {
+    ResponseEntity<AllArtistsDto> getArtists(Pageable pageable, WebRequest webRequest) {
+        String eTag = songifyCrudFacade.findArtistsVersionTag(pageable);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         Set<ArtistDto> artists
                 = songifyCrudFacade.findAllArtist(pageable);
         AllArtistsDto allArtistsDto = new AllArtistsDto(artists);
-        return ResponseEntity.ok(allArtistsDto);
+        return ResponseEntity.ok().eTag(eTag).body(allArtistsDto);
     }
 
     @DeleteMapping("/{artistId}")
-    ResponseEntity<String> deleteArtistWithAllAlbumsAndSongs(@PathVariable Long artistId) {
-        songifyCrudFacade.deleteArtistByIdWithAlbumsAndSongs(artistId);
-        return ResponseEntity.ok("probably all deleted");
+    ResponseEntity<ArtistDeletionResultDto> deleteArtistWithAllAlbumsAndSongs(@PathVariable Long artistId) {
+        ArtistDeletionResultDto result = songifyCrudFacade.deleteArtistByIdWithAlbumsAndSongs(artistId);
+        return ResponseEntity.ok(result);
     }
 
     @PutMapping("/{artistId}/albums/{albumId}")
@@ -0,0 +1,26 @@
+package com.songify.infrastructure.crud.autocomplete;
+
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AutocompleteSuggestionDto;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/autocomplete")
+class AutocompleteController {
+    private final SongifyCrudFacade songifyCrudFacade;
+
+    @GetMapping
+    ResponseEntity<AutocompleteResponseDto> autocomplete(@RequestParam String prefix,
+                                                         @RequestParam(defaultValue = "10") int limit) {
+        List<AutocompleteSuggestionDto> suggestions = songifyCrudFacade.autocomplete(prefix, limit);
+        return ResponseEntity.ok(new AutocompleteResponseDto(suggestions));
+    }
+}
@@ -0,0 +1,18 @@
+package com.songify.infrastructure.crud.autocomplete;
+
+import com.songify.domain.crud.SongifyCrudFacade;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+class AutocompleteIndexInitializer {
+    private final SongifyCrudFacade songifyCrudFacade;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void buildAutocompleteIndex() {
+        songifyCrudFacade.rebuildAutocompleteIndex();
+    }
+}
@@ -0,0 +1,8 @@
+package com.songify.infrastructure.crud.autocomplete;
+
+import com.songify.domain.crud.dto.AutocompleteSuggestionDto;
+
+import java.util.List;
+
+public record AutocompleteResponseDto(List<AutocompleteSuggestionDto> suggestions) {
+}
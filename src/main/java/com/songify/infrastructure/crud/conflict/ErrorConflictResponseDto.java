@@ -0,0 +1,6 @@
+package com.songify.infrastructure.crud.conflict;
+
+import org.springframework.http.HttpStatus;
+
+public record ErrorConflictResponseDto(String message, HttpStatus status) {
+}
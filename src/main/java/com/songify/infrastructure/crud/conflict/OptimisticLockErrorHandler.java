@@ -0,0 +1,23 @@
+package com.songify.infrastructure.crud.conflict;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+@Log4j2
+class OptimisticLockErrorHandler {
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorConflictResponseDto> handleException(RuntimeException exception) {
+        log.warn("optimistic lock conflict not resolved by retries: " + exception.getMessage());
+        ErrorConflictResponseDto dto = new ErrorConflictResponseDto(
+                "Resource was modified concurrently, please retry", HttpStatus.CONFLICT);
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(dto);
+    }
+}
@@ -0,0 +1,49 @@
+package com.songify.infrastructure.crud.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.AlbumExportDto;
+import com.songify.domain.crud.dto.SongExportDto;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/export")
+class CatalogExportController {
+    private final SongifyCrudFacade songifyCrudFacade;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/songs")
+    ResponseEntity<StreamingResponseBody> exportSongs(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = output -> {
+            CatalogExportWriter<SongExportDto> writer = new CatalogExportWriter<>(output, exportFormat, objectMapper, SongExportDto.class);
+            writer.writeHeader();
+            songifyCrudFacade.exportSongs(writer::write);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .body(body);
+    }
+
+    @GetMapping("/albums")
+    ResponseEntity<StreamingResponseBody> exportAlbums(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = output -> {
+            CatalogExportWriter<AlbumExportDto> writer = new CatalogExportWriter<>(output, exportFormat, objectMapper, AlbumExportDto.class);
+            writer.writeHeader();
+            songifyCrudFacade.exportAlbums(writer::write);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .body(body);
+    }
+}
@@ -0,0 +1,87 @@
+package com.songify.infrastructure.crud.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+class CatalogExportWriter<T extends Record> {
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final RecordComponent[] columns;
+
+    CatalogExportWriter(final OutputStream output,
+                        final ExportFormat format,
+                        final ObjectMapper objectMapper,
+                        final Class<T> rowType) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.columns = rowType.getRecordComponents();
+    }
+
+    void writeHeader() {
+        if (format == ExportFormat.CSV) {
+            writeLine(Arrays.stream(columns)
+                    .map(RecordComponent::getName)
+                    .collect(Collectors.joining(",")));
+        }
+    }
+
+    void write(final T row) {
+        try {
+            writeLine(format == ExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    private String toCsv(final T row) {
+        return Arrays.stream(columns)
+                .map(column -> escapeCsv(valueOf(column, row)))
+                .collect(Collectors.joining(","));
+    }
+
+    private void writeLine(final String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object valueOf(final RecordComponent column, final Record row) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("cannot read column " + column.getName(), e);
+        }
+    }
+
+    private static String escapeCsv(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,6 @@
+package com.songify.infrastructure.crud.export;
+
+import org.springframework.http.HttpStatus;
+
+record ErrorExportResponseDto(String message, HttpStatus status) {
+}
@@ -0,0 +1,20 @@
+package com.songify.infrastructure.crud.export;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice(assignableTypes = CatalogExportController.class)
+@Log4j2
+class ExportErrorHandler {
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    public ResponseEntity<ErrorExportResponseDto> handleException(UnsupportedExportFormatException exception) {
+        log.warn("UnsupportedExportFormatException while exporting catalog");
+        ErrorExportResponseDto dto = new ErrorExportResponseDto(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(dto);
+    }
+}
@@ -0,0 +1,27 @@
+package com.songify.infrastructure.crud.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    ExportFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    static ExportFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedExportFormatException("Export format: " + format + " is not supported"));
+    }
+}
@@ -0,0 +1,7 @@
+package com.songify.infrastructure.crud.export;
+
+class UnsupportedExportFormatException extends RuntimeException {
+    UnsupportedExportFormatException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.songify.infrastructure.crud.importer;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/import")
+class CatalogImportController {
+    private final NdjsonCatalogImporter ndjsonCatalogImporter;
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    void importCatalog(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ndjsonCatalogImporter.importCatalog(body, response.getOutputStream());
+    }
+}
@@ -0,0 +1,44 @@
+package com.songify.infrastructure.crud.importer;
+
+import com.songify.domain.crud.dto.AlbumImportRequestDto;
+import com.songify.domain.crud.dto.ArtistImportRequestDto;
+import com.songify.domain.crud.dto.SongRequestDto;
+
+import java.util.List;
+
+class CatalogImportMapper {
+
+    static ArtistImportRequestDto mapFromImportArtistRecordDtoToArtistImportRequestDto(ImportArtistRecordDto dto) {
+        List<AlbumImportRequestDto> albums = dto.albums() == null
+                ? List.of()
+                : dto.albums().stream()
+                .map(CatalogImportMapper::mapFromImportAlbumRecordDtoToAlbumImportRequestDto)
+                .toList();
+        return ArtistImportRequestDto.builder()
+                .name(dto.name())
+                .albums(albums)
+                .build();
+    }
+
+    private static AlbumImportRequestDto mapFromImportAlbumRecordDtoToAlbumImportRequestDto(ImportAlbumRecordDto dto) {
+        List<SongRequestDto> songs = dto.songs() == null
+                ? List.of()
+                : dto.songs().stream()
+                .map(CatalogImportMapper::mapFromImportSongRecordDtoToSongRequestDto)
+                .toList();
+        return AlbumImportRequestDto.builder()
+                .title(dto.title())
+                .releaseDate(dto.releaseDate())
+                .songs(songs)
+                .build();
+    }
+
+    private static SongRequestDto mapFromImportSongRecordDtoToSongRequestDto(ImportSongRecordDto dto) {
+        return SongRequestDto.builder()
+                .name(dto.name())
+                .releaseDate(dto.releaseDate())
+                .duration(dto.duration())
+                .language(dto.language())
+                .build();
+    }
+}
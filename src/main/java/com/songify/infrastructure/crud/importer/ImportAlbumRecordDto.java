@@ -0,0 +1,14 @@
+package com.songify.infrastructure.crud.importer;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Instant;
+import java.util.List;
+
+record ImportAlbumRecordDto(
+        @NotBlank(message = "album title must not be blank")
+        String title,
+        Instant releaseDate,
+        List<@Valid ImportSongRecordDto> songs) {
+}
@@ -0,0 +1,12 @@
+package com.songify.infrastructure.crud.importer;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+record ImportArtistRecordDto(
+        @NotBlank(message = "artist name must not be blank")
+        String name,
+        List<@Valid ImportAlbumRecordDto> albums) {
+}
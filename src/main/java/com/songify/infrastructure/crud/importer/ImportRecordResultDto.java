@@ -0,0 +1,20 @@
+package com.songify.infrastructure.crud.importer;
+
+import com.songify.domain.crud.dto.ArtistImportResultDto;
+
+record ImportRecordResultDto(
+        long line,
+        ImportStatus status,
+        Long artistId,
+        Integer albums,
+        Integer songs,
+        String message) {
+
+    static ImportRecordResultDto imported(long line, ArtistImportResultDto result) {
+        return new ImportRecordResultDto(line, ImportStatus.IMPORTED, result.artistId(), result.albums(), result.songs(), null);
+    }
+
+    static ImportRecordResultDto failed(long line, String message) {
+        return new ImportRecordResultDto(line, ImportStatus.FAILED, null, null, null, message);
+    }
+}
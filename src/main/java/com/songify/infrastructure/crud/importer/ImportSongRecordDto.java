@@ -0,0 +1,14 @@
+package com.songify.infrastructure.crud.importer;
+
+import com.songify.domain.crud.dto.SongLanguageDto;
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Instant;
+
+record ImportSongRecordDto(
+        @NotBlank(message = "song name must not be blank")
+        String name,
+        Instant releaseDate,
+        Long duration,
+        SongLanguageDto language) {
+}
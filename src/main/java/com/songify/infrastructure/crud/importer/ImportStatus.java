@@ -0,0 +1,6 @@
+package com.songify.infrastructure.crud.importer;
+
+enum ImportStatus {
+    IMPORTED,
+    FAILED
+}
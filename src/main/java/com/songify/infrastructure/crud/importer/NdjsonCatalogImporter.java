@@ -0,0 +1,124 @@
+package com.songify.infrastructure.crud.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.ArtistImportRequestDto;
+import com.songify.domain.crud.dto.ArtistImportResultDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.songify.infrastructure.crud.importer.CatalogImportMapper.mapFromImportArtistRecordDtoToArtistImportRequestDto;
+
+@Component
+@Log4j2
+class NdjsonCatalogImporter {
+
+    private final SongifyCrudFacade songifyCrudFacade;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    NdjsonCatalogImporter(final SongifyCrudFacade songifyCrudFacade,
+                          final ObjectMapper objectMapper,
+                          final Validator validator,
+                          @Value("${songify.import.chunk-size}") final int chunkSize) {
+        this.songifyCrudFacade = songifyCrudFacade;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    void importCatalog(final InputStream body, final OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        List<PendingRecord> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ImportArtistRecordDto record = objectMapper.readValue(line, ImportArtistRecordDto.class);
+                Set<ConstraintViolation<ImportArtistRecordDto>> violations = validator.validate(record);
+                if (!violations.isEmpty()) {
+                    write(writer, ImportRecordResultDto.failed(lineNumber, joinMessages(violations)));
+                    continue;
+                }
+                chunk.add(new PendingRecord(lineNumber, mapFromImportArtistRecordDtoToArtistImportRequestDto(record)));
+            } catch (JsonProcessingException e) {
+                write(writer, ImportRecordResultDto.failed(lineNumber, "malformed record: " + e.getOriginalMessage()));
+                continue;
+            }
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, writer);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, writer);
+        }
+        writer.flush();
+    }
+
+    private void importChunk(final List<PendingRecord> chunk, final Writer writer) throws IOException {
+        List<ArtistImportRequestDto> artists = chunk.stream()
+                .map(PendingRecord::artist)
+                .toList();
+        try {
+            List<ArtistImportResultDto> results = songifyCrudFacade.importArtists(artists);
+            for (int i = 0; i < chunk.size(); i++) {
+                write(writer, ImportRecordResultDto.imported(chunk.get(i).line(), results.get(i)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("import chunk starting at line " + chunk.get(0).line() + " was rolled back, importing its records one by one: " + e.getMessage());
+            for (PendingRecord record : chunk) {
+                importRecord(record, writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void importRecord(final PendingRecord record, final Writer writer) throws IOException {
+        try {
+            ArtistImportResultDto result = songifyCrudFacade.importArtists(List.of(record.artist())).get(0);
+            write(writer, ImportRecordResultDto.imported(record.line(), result));
+        } catch (RuntimeException e) {
+            write(writer, ImportRecordResultDto.failed(record.line(), "record rolled back: " + e.getMessage()));
+        }
+    }
+
+    private void write(final Writer writer, final ImportRecordResultDto result) throws IOException {
+        writer.write(objectMapper.writeValueAsString(result));
+        writer.write('\n');
+    }
+
+    private static String joinMessages(final Set<ConstraintViolation<ImportArtistRecordDto>> violations) {
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private record PendingRecord(long line, ArtistImportRequestDto artist) {
+    }
+}
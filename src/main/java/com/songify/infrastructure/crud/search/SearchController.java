@@ -0,0 +1,25 @@
+package com.songify.infrastructure.crud.search;
+
+import com.songify.domain.crud.SongifyCrudFacade;
+import com.songify.domain.crud.dto.SearchPageDto;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/search")
+class SearchController {
+    private final SongifyCrudFacade songifyCrudFacade;
+
+    @GetMapping
+    ResponseEntity<SearchResponseDto> search(@RequestParam String q,
+                                             @RequestParam(defaultValue = "0") int page,
+                                             @RequestParam(defaultValue = "20") int size) {
+        SearchPageDto searchPage = songifyCrudFacade.search(q, page, size);
+        return ResponseEntity.ok(new SearchResponseDto(q, page, searchPage.results(), searchPage.hasNext()));
+    }
+}
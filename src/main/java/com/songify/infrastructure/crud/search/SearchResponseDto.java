@@ -0,0 +1,13 @@
+package com.songify.infrastructure.crud.search;
+
+import com.songify.domain.crud.dto.SearchResultDto;
+
+import java.util.List;
+
+public record SearchResponseDto(
+        String query,
+        int page,
+        List<SearchResultDto> results,
+        boolean hasNext
+) {
+}
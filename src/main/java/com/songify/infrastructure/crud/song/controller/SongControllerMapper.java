@@ -2,6 +2,7 @@ package com.songify.infrastructure.crud.song.controller;
 
 
 import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongPageDto;
 import com.songify.infrastructure.crud.song.controller.dto.request.CreateSongRequestDto;
 import com.songify.infrastructure.crud.song.controller.dto.request.PartiallyUpdateSongRequestDto;
 import com.songify.infrastructure.crud.song.controller.dto.request.UpdateSongRequestDto;
@@ -60,6 +61,10 @@ class SongControllerMapper {
     }
 
     static GetAllSongsResponseDto mapFromSongToGetAllSongsResponseDto(List<SongDto> songs) {
-        return new GetAllSongsResponseDto(songs);
+        return new GetAllSongsResponseDto(songs, null);
+    }
+
+    static GetAllSongsResponseDto mapFromSongPageToGetAllSongsResponseDto(SongPageDto page) {
+        return new GetAllSongsResponseDto(page.songs(), page.nextCursor());
     }
 }
@@ -2,6 +2,8 @@ package com.songify.infrastructure.crud.song.controller;
 
 import com.songify.domain.crud.SongifyCrudFacade;
 import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongPageDto;
 import com.songify.domain.crud.dto.SongRequestDto;
 import com.songify.infrastructure.crud.song.controller.dto.request.PartiallyUpdateSongRequestDto;
 import com.songify.infrastructure.crud.song.controller.dto.request.UpdateSongRequestDto;
@@ -9,13 +11,16 @@ import com.songify.infrastructure.crud.song.controller.dto.response.CreateSongRe
 import com.songify.infrastructure.crud.song.controller.dto.response.DeleteSongResponseDto;
 import com.songify.infrastructure.crud.song.controller.dto.response.GetAllSongsResponseDto;
 import com.songify.infrastructure.crud.song.controller.dto.response.GetSongResponseDto;
+import com.songify.infrastructure.crud.song.controller.dto.response.GetSongsByIdsResponseDto;
 import com.songify.infrastructure.crud.song.controller.dto.response.PartiallyUpdateSongResponseDto;
 import com.songify.infrastructure.crud.song.controller.dto.response.UpdateSongResponseDto;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -25,12 +30,16 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static com.songify.infrastructure.crud.song.controller.SongControllerMapper.mapFromPartiallyUpdateSongRequestDtoToSong;
 import static com.songify.infrastructure.crud.song.controller.SongControllerMapper.mapFromSongDtoToPartiallyUpdateSongResponseDto;
+import static com.songify.infrastructure.crud.song.controller.SongControllerMapper.mapFromSongPageToGetAllSongsResponseDto;
 import static com.songify.infrastructure.crud.song.controller.SongControllerMapper.mapFromSongToCreateSongResponseDto;
 import static com.songify.infrastructure.crud.song.controller.SongControllerMapper.mapFromSongToDeleteSongResponseDto;
 import static com.songify.infrastructure.crud.song.controller.SongControllerMapper.mapFromSongToGetAllSongsResponseDto;
@@ -49,18 +58,33 @@ class SongRestController {
     private final SongifyCrudFacade songFacade;
 
     @GetMapping
-    ResponseEntity<GetAllSongsResponseDto> getAllSongs(Pageable pageable) {
+    ResponseEntity<GetAllSongsResponseDto> getAllSongs(Pageable pageable, @RequestParam(required = false) String after) {
+        if (after != null) {
+            SongPageDto page = songFacade.findAllSongsAfter(after, pageable.getPageSize());
+            return ResponseEntity.ok(mapFromSongPageToGetAllSongsResponseDto(page));
+        }
         List<SongDto> allSongs = songFacade.findAllSongs(pageable);
         GetAllSongsResponseDto response = mapFromSongToGetAllSongsResponseDto(allSongs);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    ResponseEntity<GetSongsByIdsResponseDto> getSongsByIds(@RequestParam List<Long> ids) {
+        List<SongLookupDto> songs = songFacade.findSongsByIds(ids);
+        return ResponseEntity.ok(new GetSongsByIdsResponseDto(songs));
+    }
+
     @GetMapping("/{id}")
-    ResponseEntity<GetSongResponseDto> getSongById(@PathVariable Long id, @RequestHeader(required = false) String requestId) {
+    ResponseEntity<GetSongResponseDto> getSongById(@PathVariable Long id, @RequestHeader(required = false) String requestId,
+                                                   WebRequest webRequest) {
         log.info(requestId);
         SongDto song = songFacade.findSongDtoById(id);
+        String eTag = songETag(song);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         GetSongResponseDto response = mapFromSongToGetSongResponseDto(song);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     @PostMapping
@@ -108,4 +132,10 @@ class SongRestController {
         songFacade.assignGenreToSong(genreId, songId);
         return ResponseEntity.ok("updated");
     }
+
+    // derived from the (usually cached) song itself, so a conditional GET does not cost a version query
+    private static String songETag(SongDto song) {
+        String content = song.name() + ":" + (song.genre() != null ? song.genre().id() + ":" + song.genre().name() : "");
+        return "song-" + song.id() + "-" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -4,5 +4,5 @@ import com.songify.domain.crud.dto.SongDto;
 
 import java.util.List;
 
-public record GetAllSongsResponseDto(List<SongDto> songs) {
+public record GetAllSongsResponseDto(List<SongDto> songs, String nextCursor) {
 }
@@ -0,0 +1,8 @@
+package com.songify.infrastructure.crud.song.controller.dto.response;
+
+import com.songify.domain.crud.dto.SongLookupDto;
+
+import java.util.List;
+
+public record GetSongsByIdsResponseDto(List<SongLookupDto> songs) {
+}
@@ -1,6 +1,8 @@
 package com.songify.infrastructure.crud.song.controller.error;
 
+import com.songify.domain.crud.InvalidSongCursorException;
 import com.songify.domain.crud.SongNotFoundException;
+import com.songify.domain.crud.TooManySongIdsException;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,4 +20,20 @@ public class SongErrorHandler {
         log.warn("SongNotFoundException while accessing song");
         return new ErrorSongResponseDto(exception.getMessage(), HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(InvalidSongCursorException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorSongResponseDto handleException(InvalidSongCursorException exception) {
+        log.warn("InvalidSongCursorException while paging songs");
+        return new ErrorSongResponseDto(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(TooManySongIdsException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorSongResponseDto handleException(TooManySongIdsException exception) {
+        log.warn("TooManySongIdsException while looking up songs");
+        return new ErrorSongResponseDto(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
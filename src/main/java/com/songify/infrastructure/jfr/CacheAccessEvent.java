@@ -0,0 +1,22 @@
+package com.songify.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.songify.CacheAccess")
+@Label("Cache Access")
+@Category({"Songify", "Cache"})
+@StackTrace(false)
+class CacheAccessEvent extends Event {
+    @Label("Cache")
+    String cache;
+
+    @Label("Hit")
+    boolean hit;
+
+    @Label("Count")
+    int count;
+}
@@ -0,0 +1,6 @@
+package com.songify.infrastructure.jfr;
+
+import org.springframework.http.HttpStatus;
+
+record ErrorJfrResponseDto(String message, HttpStatus status) {
+}
@@ -0,0 +1,83 @@
+package com.songify.infrastructure.jfr;
+
+import com.songify.domain.crud.dto.ArtistDeletionResultDto;
+import com.songify.domain.crud.dto.SearchPageDto;
+import com.songify.domain.crud.dto.SongPageDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Emits a {@link FacadeOperationEvent} for every public facade call. When no recording has the event enabled
+ * the only cost is the {@code isEnabled()} check. Ordered outermost, around the cache, retry and transaction
+ * advice, so cache hits are recorded and a retried call is one event spanning all of its attempts.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class FacadeJfrAspect {
+    private static final int MAX_IDS = 10;
+
+    @Around("execution(public * com.songify.domain.crud.SongifyCrudFacade.*(..))")
+    Object recordFacadeOperation(final ProceedingJoinPoint joinPoint) throws Throwable {
+        FacadeOperationEvent event = new FacadeOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable throwable) {
+            event.failed = true;
+            throw throwable;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.entityIds = entityIds(joinPoint.getArgs());
+                event.rowCount = rowCount(result);
+                event.commit();
+            }
+        }
+    }
+
+    private static String entityIds(final Object[] args) {
+        return Arrays.stream(args)
+                .flatMap(arg -> arg instanceof Collection<?> collection ? collection.stream() : Stream.of(arg))
+                .filter(arg -> arg instanceof Long)
+                .limit(MAX_IDS)
+                .map(Objects::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    private static long rowCount(final Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof SongPageDto page) {
+            return page.songs().size();
+        }
+        if (result instanceof SearchPageDto page) {
+            return page.results().size();
+        }
+        if (result instanceof ArtistDeletionResultDto deletion) {
+            return 1L + deletion.deletedAlbums() + deletion.deletedSongs();
+        }
+        return result == null ? 0 : 1;
+    }
+}
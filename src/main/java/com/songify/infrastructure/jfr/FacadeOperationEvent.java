@@ -0,0 +1,25 @@
+package com.songify.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.songify.FacadeOperation")
+@Label("Facade Operation")
+@Category({"Songify", "Facade"})
+@Description("Single SongifyCrudFacade call, including its transaction")
+class FacadeOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity Ids")
+    String entityIds;
+
+    @Label("Row Count")
+    long rowCount;
+
+    @Label("Failed")
+    boolean failed;
+}
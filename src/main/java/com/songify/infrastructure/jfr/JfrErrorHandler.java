@@ -0,0 +1,34 @@
+package com.songify.infrastructure.jfr;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+
+@RestControllerAdvice(assignableTypes = JfrRecordingController.class)
+@Log4j2
+class JfrErrorHandler {
+    @ExceptionHandler(JfrRecordingNotFoundException.class)
+    public ResponseEntity<ErrorJfrResponseDto> handleException(JfrRecordingNotFoundException exception) {
+        log.warn("JfrRecordingNotFoundException while accessing recording");
+        ErrorJfrResponseDto dto = new ErrorJfrResponseDto(exception.getMessage(), HttpStatus.NOT_FOUND);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(dto);
+    }
+
+    @ExceptionHandler(JfrRecordingLimitException.class)
+    public ResponseEntity<ErrorJfrResponseDto> handleException(JfrRecordingLimitException exception) {
+        log.warn("JfrRecordingLimitException while starting recording");
+        ErrorJfrResponseDto dto = new ErrorJfrResponseDto(exception.getMessage(), HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(dto);
+    }
+
+    @ExceptionHandler(IOException.class)
+    public ResponseEntity<ErrorJfrResponseDto> handleException(IOException exception) {
+        log.warn("IOException while accessing recording");
+        ErrorJfrResponseDto dto = new ErrorJfrResponseDto(exception.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(dto);
+    }
+}
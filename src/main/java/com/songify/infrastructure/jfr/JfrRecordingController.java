@@ -0,0 +1,51 @@
+package com.songify.infrastructure.jfr;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/admin/jfr/recordings")
+class JfrRecordingController {
+    private final JfrRecordingService jfrRecordingService;
+
+    @PostMapping
+    ResponseEntity<JfrRecordingDto> startRecording(@RequestParam(defaultValue = "60") long durationSeconds) {
+        JfrRecordingDto recording = jfrRecordingService.start(Duration.ofSeconds(Math.max(1, durationSeconds)));
+        return ResponseEntity.ok(recording);
+    }
+
+    @PostMapping("/{id}/stop")
+    ResponseEntity<JfrRecordingDto> stopRecording(@PathVariable Long id) {
+        return ResponseEntity.ok(jfrRecordingService.stop(id));
+    }
+
+    @GetMapping("/{id}")
+    ResponseEntity<StreamingResponseBody> downloadRecording(@PathVariable Long id) {
+        jfrRecordingService.stop(id);
+        StreamingResponseBody body = outputStream -> jfrRecordingService.writeTo(id, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"songify-" + id + ".jfr\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+
+    @DeleteMapping("/{id}")
+    ResponseEntity<Void> closeRecording(@PathVariable Long id) throws IOException {
+        jfrRecordingService.close(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,4 @@
+package com.songify.infrastructure.jfr;
+
+record JfrRecordingDto(long id, long durationSeconds, String state) {
+}
@@ -0,0 +1,7 @@
+package com.songify.infrastructure.jfr;
+
+class JfrRecordingLimitException extends RuntimeException {
+    JfrRecordingLimitException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.songify.infrastructure.jfr;
+
+class JfrRecordingNotFoundException extends RuntimeException {
+    JfrRecordingNotFoundException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,99 @@
+package com.songify.infrastructure.jfr;
+
+import jdk.management.jfr.FlightRecorderMXBean;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Starts bounded recordings through the platform {@link FlightRecorderMXBean}. Every recording has a duration
+ * and size limit and only recordings started here can be stopped, downloaded or closed.
+ */
+@Service
+@Log4j2
+class JfrRecordingService {
+    private static final String CONFIGURATION = "profile";
+
+    private final FlightRecorderMXBean flightRecorder = ManagementFactory.getPlatformMXBean(FlightRecorderMXBean.class);
+    private final Set<Long> recordingIds = ConcurrentHashMap.newKeySet();
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final int maxRecordings;
+
+    JfrRecordingService(@Value("${songify.jfr.max-duration:5m}") Duration maxDuration,
+                        @Value("${songify.jfr.max-size-bytes:268435456}") long maxSizeBytes,
+                        @Value("${songify.jfr.max-recordings:2}") int maxRecordings) {
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSizeBytes;
+        this.maxRecordings = maxRecordings;
+    }
+
+    synchronized JfrRecordingDto start(Duration duration) {
+        if (recordingIds.size() >= maxRecordings) {
+            throw new JfrRecordingLimitException("Can not keep more than " + maxRecordings + " recordings, close one first");
+        }
+        Duration bounded = duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        long id = flightRecorder.newRecording();
+        flightRecorder.setPredefinedConfiguration(id, CONFIGURATION);
+        flightRecorder.setRecordingOptions(id, Map.of(
+                "name", "songify-" + id,
+                "duration", bounded.toSeconds() + " s",
+                "maxSize", Long.toString(maxSizeBytes),
+                "disk", "true"));
+        flightRecorder.startRecording(id);
+        recordingIds.add(id);
+        log.info("started jfr recording " + id + " for " + bounded);
+        return new JfrRecordingDto(id, bounded.toSeconds(), stateOf(id));
+    }
+
+    JfrRecordingDto stop(long id) {
+        requireKnown(id);
+        if ("RUNNING".equals(stateOf(id))) {
+            flightRecorder.stopRecording(id);
+        }
+        log.info("stopped jfr recording " + id);
+        return new JfrRecordingDto(id, 0, stateOf(id));
+    }
+
+    void writeTo(long id, OutputStream outputStream) throws IOException {
+        requireKnown(id);
+        long streamId = flightRecorder.openStream(id, Map.of("blockSize", "65536"));
+        try {
+            byte[] chunk;
+            while ((chunk = flightRecorder.readStream(streamId)) != null) {
+                outputStream.write(chunk);
+            }
+        } finally {
+            flightRecorder.closeStream(streamId);
+        }
+    }
+
+    void close(long id) throws IOException {
+        requireKnown(id);
+        flightRecorder.closeRecording(id);
+        recordingIds.remove(id);
+        log.info("closed jfr recording " + id);
+    }
+
+    private void requireKnown(long id) {
+        if (!recordingIds.contains(id)) {
+            throw new JfrRecordingNotFoundException("Recording with id: " + id + " not found");
+        }
+    }
+
+    private String stateOf(long id) {
+        return flightRecorder.getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .map(recording -> recording.getState())
+                .findFirst()
+                .orElse("CLOSED");
+    }
+}
@@ -0,0 +1,61 @@
+package com.songify.infrastructure.jfr;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+/**
+ * Caffeine statistics that additionally emit a {@link CacheAccessEvent} per hit or miss.
+ * Regular statistics (and the cache meters built on them) keep working through the delegate.
+ */
+public class JfrStatsCounter implements StatsCounter {
+    private final String cacheName;
+    private final StatsCounter delegate = new ConcurrentStatsCounter();
+
+    public JfrStatsCounter(final String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public void recordHits(final int count) {
+        delegate.recordHits(count);
+        record(true, count);
+    }
+
+    @Override
+    public void recordMisses(final int count) {
+        delegate.recordMisses(count);
+        record(false, count);
+    }
+
+    @Override
+    public void recordLoadSuccess(final long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+    }
+
+    @Override
+    public void recordLoadFailure(final long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+    }
+
+    @Override
+    public void recordEviction(final int weight, final RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+
+    private void record(final boolean hit, final int count) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        if (event.shouldCommit()) {
+            event.cache = cacheName;
+            event.hit = hit;
+            event.count = count;
+            event.commit();
+        }
+    }
+}
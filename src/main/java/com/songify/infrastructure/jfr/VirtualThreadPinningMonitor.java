@@ -0,0 +1,105 @@
+package com.songify.infrastructure.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} events (a virtual thread blocked while holding a monitor or inside native
+ * code, so its carrier could not be released) and counts them per first application or library frame. The stack is
+ * logged once per frame, which is enough to find the {@code synchronized} block in a driver, pool or Hibernate path.
+ * <p>
+ * {@code @Cacheable(sync = true)} loads are not a source: in this mode the songs cache loads asynchronously, outside
+ * Caffeine's map compute - see {@code CacheConfig}.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Log4j2
+class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String METRIC_NAME = "songify.virtual.threads.pinned";
+    private static final String OTHER_FRAME = "other";
+    private static final int MAX_FRAMES = 50;
+    private static final int LOGGED_STACK_DEPTH = 15;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> seenFrames = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                @Value("${songify.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("monitoring virtual thread pinning longer than " + threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(final RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null
+                ? List.of()
+                : event.getStackTrace().getFrames();
+        String frame = firstNonJdkFrame(frames);
+        boolean firstTime = seenFrames.size() < MAX_FRAMES && seenFrames.add(frame);
+        String tag = seenFrames.contains(frame) ? frame : OTHER_FRAME;
+        Counter.builder(METRIC_NAME)
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .tag("frame", tag)
+                .register(meterRegistry)
+                .increment();
+        if (firstTime) {
+            log.warn("virtual thread pinned for " + event.getDuration().toMillis() + "ms at " + frame + "\n"
+                    + describe(event.getStackTrace()));
+        }
+    }
+
+    private static String firstNonJdkFrame(final List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(name -> !name.startsWith("java.") && !name.startsWith("jdk.") && !name.startsWith("sun."))
+                .findFirst()
+                .orElse(OTHER_FRAME);
+    }
+
+    private static String describe(final RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_STACK_DEPTH)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -63,6 +63,8 @@ class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/artists/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/albums/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/genres/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/search/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/autocomplete/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/songs/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PATCH, "/songs/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/songs/**").hasRole("ADMIN")
@@ -74,7 +76,12 @@ class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/albums/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/albums/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/genres/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/import/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/export/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/users/**").hasRole("ADMIN")
+                .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated());
         return http.build();
     }
@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class SecurityUser implements UserDetails {
+    public static final String USERS_CACHE = "users";
+
     private final User user;
 
     SecurityUser(User user) {
@@ -4,6 +4,9 @@ import com.songify.domain.usercrud.User;
 import com.songify.domain.usercrud.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -11,6 +14,8 @@ import org.springframework.security.provisioning.UserDetailsManager;
 
 import java.util.List;
 
+import static com.songify.infrastructure.security.SecurityUser.USERS_CACHE;
+
 @AllArgsConstructor
 @Log4j2
 class UserDetailsServiceImpl implements UserDetailsManager {
@@ -20,6 +25,7 @@ class UserDetailsServiceImpl implements UserDetailsManager {
     private final PasswordEncoder passwordEncoder;
 
     @Override
+    @Cacheable(cacheNames = USERS_CACHE, key = "#username", sync = true)
     public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
         return userRepository.findFirstByEmail(username)
                 .map(SecurityUser::new)
@@ -27,6 +33,7 @@ class UserDetailsServiceImpl implements UserDetailsManager {
     }
 
     @Override
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#user.username")
     public void createUser(final UserDetails user) {
         if (userExists(user.getUsername())) {
             log.warn("not saved user - already exists");
@@ -45,13 +52,25 @@ class UserDetailsServiceImpl implements UserDetailsManager {
     }
 
     @Override
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#user.username")
     public void updateUser(final UserDetails user) {
-
+        User existingUser = userRepository.findFirstByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("not found user"));
+        existingUser.setPassword(passwordEncoder.encode(user.getPassword()));
+        existingUser.setEnabled(user.isEnabled());
+        existingUser.setAuthorities(user.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        userRepository.save(existingUser);
+        log.info("Updated user with Id: " + existingUser.getId());
     }
 
     @Override
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#username")
     public void deleteUser(final String username) {
-
+        int deleted = userRepository.deleteByEmail(username);
+        log.info("Deleted " + deleted + " user(s)");
     }
 
     @Override
@@ -0,0 +1,44 @@
+package com.songify.infrastructure.sqlbudget;
+
+/**
+ * Statements executed by the current request thread. Bound by {@link ServerTimingFilter},
+ * fed by {@link StatementTimingSessionListener}; work done on other threads is not counted.
+ */
+final class RequestSqlStats {
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private int statements;
+    private long statementNanos;
+
+    static RequestSqlStats bind() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(long nanos) {
+        statements++;
+        statementNanos += nanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    double statementMillis() {
+        return statementNanos / 1_000_000.0;
+    }
+
+    double totalMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
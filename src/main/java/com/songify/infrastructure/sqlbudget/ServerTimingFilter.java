@@ -0,0 +1,89 @@
+package com.songify.infrastructure.sqlbudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Adds {@code Server-Timing: db-count;desc="n", db;dur=x, total;dur=y} to every response and warns when a request
+ * executed more statements than its budget. The header is written when the response gets committed, so it also
+ * reaches streamed responses; tests can read it to assert statement counts.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+@Log4j2
+class ServerTimingFilter extends OncePerRequestFilter {
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final SqlBudgetProperties budgets;
+
+    ServerTimingFilter(final SqlBudgetProperties budgets) {
+        this.budgets = budgets;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.bind();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, stats);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.writeServerTiming();
+            RequestSqlStats.unbind();
+            checkBudget(request, stats);
+        }
+    }
+
+    private void checkBudget(final HttpServletRequest request, final RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        int budget = budgets.budgetFor(endpoint);
+        if (stats.statements() > budget) {
+            log.warn("SQL budget exceeded for " + endpoint + ": " + stats.statements()
+                    + " statements (budget " + budget + "), " + format(stats.statementMillis()) + " ms in database");
+        }
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.2f", millis);
+    }
+
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+        private final RequestSqlStats stats;
+        private boolean written;
+
+        private ServerTimingResponse(final HttpServletResponse response, final RequestSqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        private void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(SERVER_TIMING, "db-count;desc=\"" + stats.statements() + "\""
+                    + ", db;dur=" + format(stats.statementMillis())
+                    + ", total;dur=" + format(stats.totalMillis()));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.songify.infrastructure.sqlbudget;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * @param defaultStatements budget for endpoints without their own entry
+ * @param endpoints         budgets keyed by {@code "<METHOD> <handler pattern>"}, e.g. {@code "GET /albums/{albumId}"}
+ */
+@ConfigurationProperties("songify.sql-budget")
+record SqlBudgetProperties(int defaultStatements, Map<String, Integer> endpoints) {
+    SqlBudgetProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultStatements);
+    }
+}
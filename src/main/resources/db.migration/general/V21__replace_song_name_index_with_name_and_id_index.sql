@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_song_name;
+
+CREATE INDEX idx_song_name_id ON song (name, id);
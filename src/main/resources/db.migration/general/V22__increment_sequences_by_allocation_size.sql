@@ -0,0 +1,9 @@
+ALTER SEQUENCE song_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE album_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE artist_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE genre_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
@@ -0,0 +1,16 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE song
+    ADD COLUMN name_tsv tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(name, ''))) STORED;
+ALTER TABLE artist
+    ADD COLUMN name_tsv tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(name, ''))) STORED;
+ALTER TABLE album
+    ADD COLUMN title_tsv tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(title, ''))) STORED;
+
+CREATE INDEX idx_song_name_tsv ON song USING GIN (name_tsv);
+CREATE INDEX idx_artist_name_tsv ON artist USING GIN (name_tsv);
+CREATE INDEX idx_album_title_tsv ON album USING GIN (title_tsv);
+
+CREATE INDEX idx_song_name_trgm ON song USING GIN (name gin_trgm_ops);
+CREATE INDEX idx_artist_name_trgm ON artist USING GIN (name gin_trgm_ops);
+CREATE INDEX idx_album_title_trgm ON album USING GIN (title gin_trgm_ops);
@@ -0,0 +1,28 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.AlbumSongIdInfo;
+
+class AlbumSongIdInfoTestImpl implements AlbumSongIdInfo {
+    private final Album album;
+    private final Long songId;
+
+    AlbumSongIdInfoTestImpl(final Album album, final Long songId) {
+        this.album = album;
+        this.songId = songId;
+    }
+
+    @Override
+    public Long getAlbumId() {
+        return album.getId();
+    }
+
+    @Override
+    public String getTitle() {
+        return album.getTitle();
+    }
+
+    @Override
+    public Long getSongId() {
+        return songId;
+    }
+}
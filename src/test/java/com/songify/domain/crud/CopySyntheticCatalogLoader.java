@@ -0,0 +1,171 @@
+package com.songify.domain.crud;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loads a generated catalog into Postgres with {@code COPY ... FROM STDIN}, one table at a time in the order the
+ * generator emits rows. Before anything is copied, each id sequence is advanced past a range as large as the spec's
+ * row count, and generated ids are shifted into that range. Ids the application already holds in a pooled block,
+ * or will allocate during the load, therefore never collide with loaded rows.
+ * <p>
+ * Runs inside the caller's transaction, committing is up to the caller. For a local database:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.songify.domain.crud.CopySyntheticCatalogLoader
+ * -Dexec.args="jdbc:postgresql://localhost:54320/postgres user admin 10000000"}
+ */
+public class CopySyntheticCatalogLoader implements SyntheticCatalogSink, AutoCloseable {
+    private static final int FLUSH_BYTES = 1 << 20;
+    private static final Map<String, String> COPY_STATEMENTS = new LinkedHashMap<>();
+
+    static {
+        COPY_STATEMENTS.put("genre", "COPY genre (id, name) FROM STDIN");
+        COPY_STATEMENTS.put("artist", "COPY artist (id, name) FROM STDIN");
+        COPY_STATEMENTS.put("album", "COPY album (id, title, release_date) FROM STDIN");
+        COPY_STATEMENTS.put("artist_albums", "COPY artist_albums (artists_id, albums_id) FROM STDIN");
+        COPY_STATEMENTS.put("song", "COPY song (id, name, release_date, duration, language, genre_id, album_id) FROM STDIN");
+    }
+
+    private final Connection connection;
+    private final CopyManager copyManager;
+    private final long genreOffset;
+    private final long artistOffset;
+    private final long albumOffset;
+    private final long songOffset;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_BYTES + 4096);
+    private String currentTable;
+    private CopyIn copyIn;
+
+    public CopySyntheticCatalogLoader(final Connection connection, final SyntheticCatalogSpec spec) throws SQLException {
+        this.connection = connection;
+        this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        this.genreOffset = reserveIds("genre", spec.genres());
+        this.artistOffset = reserveIds("artist", spec.artists());
+        this.albumOffset = reserveIds("album", spec.albums());
+        this.songOffset = reserveIds("song", spec.songs());
+    }
+
+    @Override
+    public void genre(final long id, final String name) {
+        // genre names are unique, the shifted id keeps repeated loads apart
+        row("genre", genreOffset + id, name + " " + (genreOffset + id));
+    }
+
+    @Override
+    public void artist(final long id, final String name) {
+        row("artist", artistOffset + id, name);
+    }
+
+    @Override
+    public void album(final long id, final String title, final Instant releaseDate) {
+        row("album", albumOffset + id, title, releaseDate);
+    }
+
+    @Override
+    public void artistAlbum(final long artistId, final long albumId) {
+        row("artist_albums", artistOffset + artistId, albumOffset + albumId);
+    }
+
+    @Override
+    public void song(final long id, final String name, final Instant releaseDate, final long duration,
+                     final SongLanguage language, final long genreId, final long albumId) {
+        row("song", songOffset + id, name, releaseDate, duration, language, genreOffset + genreId, albumOffset + albumId);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        finishTable();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE genre, artist, album, artist_albums, song");
+        }
+    }
+
+    private void row(final String table, final Object... values) {
+        try {
+            if (!table.equals(currentTable)) {
+                finishTable();
+                currentTable = table;
+                copyIn = copyManager.copyIn(COPY_STATEMENTS.get(table));
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.write('\t');
+                }
+                writeValue(values[i]);
+            }
+            buffer.write('\n');
+            if (buffer.size() >= FLUSH_BYTES) {
+                flush();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not copy synthetic rows into " + table, e);
+        }
+    }
+
+    private void writeValue(final Object value) {
+        if (value == null) {
+            buffer.writeBytes("\\N".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        String text = value.toString()
+                .replace("\\", "\\\\")
+                .replace("\t", "\\t")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r");
+        buffer.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void flush() throws SQLException {
+        copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+        buffer.reset();
+    }
+
+    private void finishTable() throws SQLException {
+        if (copyIn != null) {
+            flush();
+            copyIn.endCopy();
+            copyIn = null;
+        }
+    }
+
+    /**
+     * Moves the sequence past {@code count} ids and returns the first of them. The value {@code nextval} returns
+     * here was never handed out to the application, pooled blocks end at or below it, so the range starts above it
+     * (or above rows inserted with explicit ids). Sequences are not transactional: the range stays reserved even if
+     * the load is rolled back, and only a {@code nextval} racing this single statement could land inside it.
+     */
+    private long reserveIds(final String table, final long count) throws SQLException {
+        String sequence = "'" + table + "_id_seq'";
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT setval(" + sequence + ", greatest(nextval(" + sequence
+                     + "), (SELECT coalesce(max(id), 0) FROM " + table + ")) + " + count + ") - " + count + " + 1")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    public static void main(final String[] args) throws SQLException {
+        long songs = args.length > 3 ? Long.parseLong(args[3]) : 1_000_000L;
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            connection.setAutoCommit(false);
+            long start = System.nanoTime();
+            SyntheticCatalogSpec spec = SyntheticCatalogSpec.ofSongs(songs);
+            try (CopySyntheticCatalogLoader loader = new CopySyntheticCatalogLoader(connection, spec)) {
+                new SyntheticCatalogGenerator(spec).generate(loader);
+            }
+            connection.commit();
+            System.out.println("loaded " + songs + " synthetic songs in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
+}
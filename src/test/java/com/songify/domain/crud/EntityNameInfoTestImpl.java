@@ -0,0 +1,23 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.EntityNameInfo;
+
+class EntityNameInfoTestImpl implements EntityNameInfo {
+    private final Long id;
+    private final String name;
+
+    EntityNameInfoTestImpl(final Long id, final String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
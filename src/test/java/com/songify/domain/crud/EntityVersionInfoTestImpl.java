@@ -0,0 +1,23 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.EntityVersionInfo;
+
+class EntityVersionInfoTestImpl implements EntityVersionInfo {
+    private final Long id;
+    private final Long version;
+
+    EntityVersionInfoTestImpl(final Long id, final Long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+}
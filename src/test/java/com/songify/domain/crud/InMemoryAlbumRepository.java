@@ -1,15 +1,22 @@
 package com.songify.domain.crud;
 
-import com.songify.domain.crud.dto.AlbumInfo;
+import com.songify.domain.crud.dto.AlbumExportDto;
+import com.songify.domain.crud.dto.AlbumSongIdInfo;
+import com.songify.domain.crud.dto.EntityNameInfo;
+import com.songify.domain.crud.dto.SearchHitInfo;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class InMemoryAlbumRepository implements AlbumRepository {
     Map<Long, Album> db = new HashMap<>();
@@ -21,12 +28,17 @@ class InMemoryAlbumRepository implements AlbumRepository {
         return Optional.ofNullable(value);
     }
 
+    @Override
+    public boolean existsById(final Long id) {
+        return db.containsKey(id);
+    }
+
     @Override
     public int deleteByIdIn(final Collection<Long> ids) {
-        ids.forEach(
-                id -> db.remove(id)
-        );
-        return 0;
+        return (int) ids.stream()
+                .map(id -> db.remove(id))
+                .filter(Objects::nonNull)
+                .count();
     }
 
     @Override
@@ -43,10 +55,21 @@ class InMemoryAlbumRepository implements AlbumRepository {
     }
 
     @Override
-    public Optional<AlbumInfo> findAlbumByIdWithSongAndArtists(final Long id) {
-        Album album = db.get(id);
-        AlbumInfoTestImpl albumInfoTest = new AlbumInfoTestImpl(album);
-        return Optional.of(albumInfoTest);
+    public Optional<Album> findAlbumByIdWithSongAndArtists(final Long id) {
+        return Optional.ofNullable(db.get(id));
+    }
+
+    @Override
+    public Optional<String> findVersionTagById(final Long id) {
+        return Optional.ofNullable(db.get(id))
+                .map(album -> String.valueOf(Objects.hash(
+                        album.getTitle(),
+                        album.getSongs().stream()
+                                .map(song -> song.getId() + ":" + song.getName())
+                                .collect(Collectors.toSet()),
+                        album.getArtists().stream()
+                                .map(artist -> artist.getId() + ":" + artist.getName())
+                                .collect(Collectors.toSet()))));
     }
 
     @Override
@@ -56,4 +79,60 @@ class InMemoryAlbumRepository implements AlbumRepository {
                         .anyMatch(artist -> artist.getId().equals(id)))
                 .collect(Collectors.toSet());
     }
+
+    @Override
+    public Set<Long> findIdsOfAlbumsWithOnlyArtist(final Long artistId) {
+        return findAllAlbumsByArtistId(artistId).stream()
+                .filter(album -> album.getArtists().size() == 1)
+                .map(Album::getId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<SearchHitInfo> searchByTitle(final String query, final int limit) {
+        return db.values().stream()
+                .map(album -> SearchHitInfoTestImpl.matching(album.getId(), album.getTitle(), query))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(SearchHitInfo::getRank).reversed()
+                        .thenComparing(SearchHitInfo::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<AlbumSongIdInfo> findAllAlbumsWithSongIdsByArtistId(final Long id) {
+        return toAlbumSongIdRows(findAllAlbumsByArtistId(id));
+    }
+
+    @Override
+    public List<AlbumSongIdInfo> findAlbumWithSongIdsById(final Long id) {
+        return toAlbumSongIdRows(Optional.ofNullable(db.get(id)).stream().toList());
+    }
+
+    @Override
+    public List<AlbumSongIdInfo> findAllAlbumsWithSongIds() {
+        return toAlbumSongIdRows(db.values());
+    }
+
+    private List<AlbumSongIdInfo> toAlbumSongIdRows(final Collection<Album> albums) {
+        return albums.stream()
+                .flatMap(album -> album.getSongs().isEmpty()
+                        ? Stream.of(new AlbumSongIdInfoTestImpl(album, null))
+                        : album.getSongs().stream().map(song -> new AlbumSongIdInfoTestImpl(album, song.getId())))
+                .map(AlbumSongIdInfo.class::cast)
+                .toList();
+    }
+
+    @Override
+    public Stream<EntityNameInfo> streamAllTitles() {
+        return db.values().stream()
+                .map(album -> new EntityNameInfoTestImpl(album.getId(), album.getTitle()));
+    }
+
+    @Override
+    public Stream<AlbumExportDto> streamAllForExport() {
+        return db.values().stream()
+                .sorted(Comparator.comparing(Album::getId))
+                .map(album -> new AlbumExportDto(album.getId(), album.getTitle(), album.getReleaseDate()));
+    }
 }
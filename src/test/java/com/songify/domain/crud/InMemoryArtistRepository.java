@@ -1,18 +1,41 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.EntityNameInfo;
+import com.songify.domain.crud.dto.EntityVersionInfo;
+import com.songify.domain.crud.dto.SearchHitInfo;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 class InMemoryArtistRepository implements ArtistRepository {
 
     Map<Long, Artist> db = new HashMap<>();
     AtomicInteger index = new AtomicInteger(0);
+    private final InMemoryAlbumRepository albumRepository;
+
+    InMemoryArtistRepository(final InMemoryAlbumRepository albumRepository) {
+        this.albumRepository = albumRepository;
+    }
+
+    @Override
+    public int addAlbumLink(final Long artistId, final Long albumId) {
+        Artist artist = db.get(artistId);
+        Album album = albumRepository.db.get(albumId);
+        if (artist == null || album == null || artist.getAlbums().contains(album)) {
+            return 0;
+        }
+        artist.addAlbum(album);
+        return 1;
+    }
 
     @Override
     public int deleteById(final Long id) {
@@ -20,6 +43,39 @@ class InMemoryArtistRepository implements ArtistRepository {
         return id.intValue();
     }
 
+    @Override
+    public boolean existsById(final Long id) {
+        return db.containsKey(id);
+    }
+
+    @Override
+    public Stream<EntityNameInfo> streamAllNames() {
+        return db.values().stream()
+                .map(artist -> new EntityNameInfoTestImpl(artist.getId(), artist.getName()));
+    }
+
+    @Override
+    public List<SearchHitInfo> searchByName(final String query, final int limit) {
+        return db.values().stream()
+                .map(artist -> SearchHitInfoTestImpl.matching(artist.getId(), artist.getName(), query))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(SearchHitInfo::getRank).reversed()
+                        .thenComparing(SearchHitInfo::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int deleteAlbumLinksById(final Long id) {
+        Artist artist = db.get(id);
+        if (artist == null) {
+            return 0;
+        }
+        Set<Album> albums = new HashSet<>(artist.getAlbums());
+        albums.forEach(album -> album.removeArtist(artist));
+        return albums.size();
+    }
+
     @Override
     public Artist save(final Artist artist) {
         long index = this.index.getAndIncrement();
@@ -33,6 +89,14 @@ class InMemoryArtistRepository implements ArtistRepository {
         return new HashSet<>(db.values());
     }
 
+    // in memory artists have no version column, the name hash stands in for it
+    @Override
+    public List<EntityVersionInfo> findVersions(final Pageable pageable) {
+        return db.values().stream()
+                .map(artist -> (EntityVersionInfo) new EntityVersionInfoTestImpl(artist.getId(), (long) artist.getName().hashCode()))
+                .toList();
+    }
+
     @Override
     public Optional<Artist> findById(final Long artistId) {
         Artist value = db.get(artistId);
@@ -1,17 +1,29 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.EntityNameInfo;
+import com.songify.domain.crud.dto.SearchHitInfo;
+import com.songify.domain.crud.dto.SongExportDto;
+import com.songify.domain.crud.dto.SongRowInfo;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 class InMemorySongRepository implements SongRepository {
     Map<Long, Song> db = new HashMap<>();
     AtomicInteger index = new AtomicInteger(0);
+    private final InMemoryAlbumRepository albumRepository;
+
+    InMemorySongRepository(final InMemoryAlbumRepository albumRepository) {
+        this.albumRepository = albumRepository;
+    }
 
     @Override
     public int deleteByIdIn(final Collection<Long> ids) {
@@ -26,6 +38,24 @@ class InMemorySongRepository implements SongRepository {
         return db.values().stream().toList();
     }
 
+    @Override
+    public List<Song> findFirstPageOrderByNameAndId(final Pageable pageable) {
+        return db.values().stream()
+                .sorted(Comparator.comparing(Song::getName).thenComparing(Song::getId))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public List<Song> findAllAfterNameAndId(final String name, final Long id, final Pageable pageable) {
+        return db.values().stream()
+                .sorted(Comparator.comparing(Song::getName).thenComparing(Song::getId))
+                .filter(song -> song.getName().compareTo(name) > 0
+                        || (song.getName().equals(name) && song.getId() > id))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
     @Override
     public Optional<Song> findById(final Long id) {
         Song value = db.get(id);
@@ -33,13 +63,38 @@ class InMemorySongRepository implements SongRepository {
     }
 
     @Override
-    public void deleteById(final Long id) {
+    public List<Song> findAllByIdIn(final Collection<Long> ids) {
+        return ids.stream()
+                .map(db::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
+    @Override
+    public int deleteById(final Long id) {
+        return db.remove(id) == null ? 0 : 1;
     }
 
     @Override
-    public void updateById(final Long id, final Song newSong) {
+    public int updateById(final Long id, final Song newSong) {
+        Song song = db.get(id);
+        if (song == null) {
+            return 0;
+        }
+        song.setName(newSong.getName());
+        return 1;
+    }
 
+    @Override
+    public Optional<SongRowInfo> updateNameIfPresentReturningRow(final Long id, final String name) {
+        return Optional.ofNullable(db.get(id))
+                .map(song -> {
+                    if (name != null) {
+                        song.setName(name);
+                    }
+                    return new SongRowInfoTestImpl(song.getId(), song.getName(),
+                            song.getGenre().getId(), song.getGenre().getName());
+                });
     }
 
     @Override
@@ -52,6 +107,80 @@ class InMemorySongRepository implements SongRepository {
 
     @Override
     public boolean existsById(final Long id) {
-        return false;
+        return db.containsKey(id);
+    }
+
+    @Override
+    public List<SearchHitInfo> searchByName(final String query, final int limit) {
+        return db.values().stream()
+                .map(song -> SearchHitInfoTestImpl.matching(song.getId(), song.getName(), query))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(SearchHitInfo::getRank).reversed()
+                        .thenComparing(SearchHitInfo::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findIdsByIdIn(final Collection<Long> ids) {
+        return ids.stream()
+                .filter(db::containsKey)
+                .toList();
+    }
+
+    @Override
+    public int assignAlbumById(final Long albumId, final Long id) {
+        return albumRepository.db.containsKey(albumId) ? assignAlbumByIdIn(albumId, List.of(id)) : 0;
+    }
+
+    @Override
+    public int assignAlbumByIdIn(final Long albumId, final Collection<Long> ids) {
+        Album album = albumRepository.db.get(albumId);
+        List<Song> songs = findAllByIdIn(ids);
+        songs.forEach(song -> {
+            albumRepository.db.values().forEach(other -> other.getSongs().remove(song));
+            album.addSongToAlbum(song);
+            song.setAlbumId(albumId);
+        });
+        return songs.size();
+    }
+
+    @Override
+    public List<Long> findIdsByAlbumIdIn(final Collection<Long> albumIds) {
+        return albumIds.stream()
+                .map(albumRepository.db::get)
+                .filter(Objects::nonNull)
+                .flatMap(album -> album.getSongs().stream())
+                .map(Song::getId)
+                .toList();
+    }
+
+    @Override
+    public Stream<EntityNameInfo> streamAllNames() {
+        return db.values().stream()
+                .map(song -> new EntityNameInfoTestImpl(song.getId(), song.getName()));
+    }
+
+    @Override
+    public int deleteByAlbumIdIn(final Collection<Long> albumIds) {
+        List<Long> songIds = findIdsByAlbumIdIn(albumIds);
+        return (int) songIds.stream()
+                .map(id -> db.remove(id))
+                .filter(Objects::nonNull)
+                .count();
+    }
+
+    @Override
+    public Stream<SongExportDto> streamAllForExport() {
+        return db.values().stream()
+                .sorted(Comparator.comparing(Song::getId))
+                .map(song -> new SongExportDto(
+                        song.getId(),
+                        song.getName(),
+                        song.getReleaseDate(),
+                        song.getDuration(),
+                        song.getLanguage() == null ? null : song.getLanguage().name(),
+                        song.getGenre() == null ? null : song.getGenre().getName(),
+                        song.getAlbumId()));
     }
 }
@@ -0,0 +1,65 @@
+package com.songify.domain.crud;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads a generated catalog into the in-memory repositories, for facade tests and JMH benchmarks at scale.
+ * Repository ids are assigned by the repositories, generated ids only index the entities created here.
+ */
+class InMemorySyntheticCatalogLoader implements SyntheticCatalogSink {
+    private final InMemorySongRepository songRepository;
+    private final InMemoryGenreRepository genreRepository;
+    private final InMemoryArtistRepository artistRepository;
+    private final InMemoryAlbumRepository albumRepository;
+    private final List<Genre> genres = new ArrayList<>();
+    private final List<Artist> artists = new ArrayList<>();
+    private final List<Album> albums = new ArrayList<>();
+
+    InMemorySyntheticCatalogLoader(final InMemorySongRepository songRepository,
+                                   final InMemoryGenreRepository genreRepository,
+                                   final InMemoryArtistRepository artistRepository,
+                                   final InMemoryAlbumRepository albumRepository) {
+        this.songRepository = songRepository;
+        this.genreRepository = genreRepository;
+        this.artistRepository = artistRepository;
+        this.albumRepository = albumRepository;
+    }
+
+    @Override
+    public void genre(final long id, final String name) {
+        genres.add(genreRepository.save(new Genre(name)));
+    }
+
+    @Override
+    public void artist(final long id, final String name) {
+        artists.add(artistRepository.save(new Artist(name)));
+    }
+
+    @Override
+    public void album(final long id, final String title, final Instant releaseDate) {
+        Album album = new Album();
+        album.setTitle(title);
+        album.setReleaseDate(releaseDate);
+        albums.add(albumRepository.save(album));
+    }
+
+    @Override
+    public void artistAlbum(final long artistId, final long albumId) {
+        Artist artist = artists.get((int) artistId);
+        Album album = albums.get((int) albumId);
+        artistRepository.addAlbumLink(artist.getId(), album.getId());
+    }
+
+    @Override
+    public void song(final long id, final String name, final Instant releaseDate, final long duration,
+                     final SongLanguage language, final long genreId, final long albumId) {
+        Song song = new Song(name, releaseDate, duration, language);
+        song.setGenre(genres.get((int) genreId));
+        songRepository.save(song);
+        Album album = albums.get((int) albumId);
+        album.addSongToAlbum(song);
+        song.setAlbumId(album.getId());
+    }
+}
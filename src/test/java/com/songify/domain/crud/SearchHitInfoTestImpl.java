@@ -0,0 +1,46 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.SearchHitInfo;
+
+class SearchHitInfoTestImpl implements SearchHitInfo {
+    private final Long id;
+    private final String name;
+    private final Double rank;
+
+    SearchHitInfoTestImpl(final Long id, final String name, final Double rank) {
+        this.id = id;
+        this.name = name;
+        this.rank = rank;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Double getRank() {
+        return rank;
+    }
+
+    // stands in for ts_rank/similarity: exact match ranks highest, then prefix, then substring
+    static SearchHitInfo matching(final Long id, final String name, final String query) {
+        String lowerName = name.toLowerCase();
+        String lowerQuery = query.toLowerCase();
+        if (lowerName.equals(lowerQuery)) {
+            return new SearchHitInfoTestImpl(id, name, 1.0);
+        }
+        if (lowerName.startsWith(lowerQuery)) {
+            return new SearchHitInfoTestImpl(id, name, 0.5);
+        }
+        if (lowerName.contains(lowerQuery)) {
+            return new SearchHitInfoTestImpl(id, name, 0.25);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.songify.domain.crud;
+
+import com.songify.domain.crud.dto.SongRowInfo;
+
+class SongRowInfoTestImpl implements SongRowInfo {
+    private final Long id;
+    private final String name;
+    private final Long genreId;
+    private final String genreName;
+
+    SongRowInfoTestImpl(final Long id, final String name, final Long genreId, final String genreName) {
+        this.id = id;
+        this.name = name;
+        this.genreId = genreId;
+        this.genreName = genreName;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Long getGenreId() {
+        return genreId;
+    }
+
+    @Override
+    public String getGenreName() {
+        return genreName;
+    }
+}
@@ -1,32 +1,49 @@
 package com.songify.domain.crud;
 
+import com.songify.domain.crud.dto.AlbumDetailsDto;
 import com.songify.domain.crud.dto.AlbumDto;
-import com.songify.domain.crud.dto.AlbumInfo;
+import com.songify.domain.crud.dto.AlbumImportRequestDto;
 import com.songify.domain.crud.dto.AlbumRequestDto;
+import com.songify.domain.crud.dto.AlbumSongDto;
+import com.songify.domain.crud.dto.ArtistDeletionResultDto;
 import com.songify.domain.crud.dto.ArtistDto;
+import com.songify.domain.crud.dto.ArtistImportRequestDto;
+import com.songify.domain.crud.dto.ArtistImportResultDto;
 import com.songify.domain.crud.dto.ArtistRequestDto;
+import com.songify.domain.crud.dto.AutocompleteSuggestionDto;
+import com.songify.domain.crud.dto.SearchPageDto;
+import com.songify.domain.crud.dto.SearchResultDto;
+import com.songify.domain.crud.dto.SearchResultType;
 import com.songify.domain.crud.dto.SongDto;
+import com.songify.domain.crud.dto.SongExportDto;
 import com.songify.domain.crud.dto.SongLanguageDto;
+import com.songify.domain.crud.dto.SongLookupDto;
+import com.songify.domain.crud.dto.SongPageDto;
 import com.songify.domain.crud.dto.SongRequestDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 class SongifyCrudFacadeTest {
 
+    InMemoryAlbumRepository albumRepository = new InMemoryAlbumRepository();
+    InMemorySongRepository songRepository = new InMemorySongRepository(albumRepository);
     SongifyCrudFacade songifyCrudFacade = SongifyCrudFacadeConfiguration.createSongifyCrud(
-            new InMemorySongRepository(),
+            songRepository,
             new InMemoryGenreRepository(),
-            new InMemoryArtistRepository(),
-            new InMemoryAlbumRepository()
+            new InMemoryArtistRepository(albumRepository),
+            albumRepository
     );
 
     @Test
@@ -176,9 +193,9 @@ class SongifyCrudFacadeTest {
         AlbumDto albumDto = songifyCrudFacade.addAlbumWithSong(album);
         //then
         assertThat(songifyCrudFacade.findAllAlbums()).isNotEmpty();
-        AlbumInfo albumWithSongs = songifyCrudFacade.findAlbumByIdWithArtistAndSongs(albumDto.id());
-        Set<AlbumInfo.SongInfo> songs = albumWithSongs.getSongs();
-        assertThat(songs.stream().anyMatch(song -> song.getId().equals(songDto.id())));
+        AlbumDetailsDto albumWithSongs = songifyCrudFacade.findAlbumByIdWithArtistAndSongs(albumDto.id());
+        Set<AlbumSongDto> songs = albumWithSongs.songs();
+        assertThat(songs.stream().anyMatch(song -> song.id().equals(songDto.id()))).isTrue();
     }
 
     @Test
@@ -200,6 +217,69 @@ class SongifyCrudFacadeTest {
                 .containsExactly(0L);
     }
 
+    @Test
+    @DisplayName("Should return songs page by page ordered by name When cursor was sent")
+    public void should_return_songs_page_by_page_ordered_by_name_when_cursor_was_sent() {
+        // given
+        songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("b song")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("c song")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("a song")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        SongPageDto firstPage = songifyCrudFacade.findAllSongsAfter("", 2);
+        assertThat(firstPage.songs())
+                .extracting(SongDto::name)
+                .containsExactly("a song", "b song");
+        assertThat(firstPage.nextCursor()).isNotNull();
+        // when
+        SongPageDto secondPage = songifyCrudFacade.findAllSongsAfter(firstPage.nextCursor(), 2);
+        // then
+        assertThat(secondPage.songs())
+                .extracting(SongDto::name)
+                .containsExactly("c song");
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should throw exception InvalidSongCursor When cursor was malformed")
+    public void should_throw_exception_invalid_song_cursor_when_cursor_was_malformed() {
+        // when
+        Throwable throwable = catchThrowable(() -> songifyCrudFacade.findAllSongsAfter("not-a-cursor", 2));
+        // then
+        assertThat(throwable).isInstanceOf(InvalidSongCursorException.class);
+        assertThat(throwable.getMessage()).isEqualTo("Cursor: not-a-cursor is not valid");
+    }
+
+    @Test
+    @DisplayName("Should export all songs ordered by id with genre and language")
+    public void should_export_all_songs_ordered_by_id_with_genre_and_language() {
+        // given
+        songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("song1")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("song2")
+                .language(SongLanguageDto.POLISH)
+                .build());
+        List<SongExportDto> exported = new ArrayList<>();
+        // when
+        songifyCrudFacade.exportSongs(exported::add);
+        // then
+        assertThat(exported)
+                .extracting(SongExportDto::name, SongExportDto::language, SongExportDto::genre)
+                .containsExactly(
+                        tuple("song1", "ENGLISH", "default"),
+                        tuple("song2", "POLISH", "default"));
+    }
+
     @Test
     @DisplayName("Should add artist to album")
     public void should_add_artist_to_album() {
@@ -231,6 +311,40 @@ class SongifyCrudFacadeTest {
                 .containsExactly(albumId);
     }
 
+    @Test
+    @DisplayName("Should import artists with their albums and songs in one call")
+    public void should_import_artists_with_their_albums_and_songs_in_one_call() {
+        // given
+        ArtistImportRequestDto eminem = ArtistImportRequestDto.builder()
+                .name("eminem")
+                .albums(List.of(AlbumImportRequestDto.builder()
+                        .title("the eminem show")
+                        .songs(List.of(
+                                SongRequestDto.builder().name("till i collapse").language(SongLanguageDto.ENGLISH).build(),
+                                SongRequestDto.builder().name("without me").build()))
+                        .build()))
+                .build();
+        ArtistImportRequestDto adele = ArtistImportRequestDto.builder()
+                .name("adele")
+                .build();
+        // when
+        List<ArtistImportResultDto> results = songifyCrudFacade.importArtists(List.of(eminem, adele));
+        // then
+        assertThat(results)
+                .extracting(ArtistImportResultDto::albums, ArtistImportResultDto::songs)
+                .containsExactly(tuple(1, 2), tuple(0, 0));
+        assertThat(songifyCrudFacade.findAllArtist(Pageable.unpaged()))
+                .extracting(ArtistDto::name)
+                .containsExactlyInAnyOrder("eminem", "adele");
+        Set<AlbumDto> eminemAlbums = songifyCrudFacade.findAlbumsByArtistId(results.get(0).artistId());
+        assertThat(eminemAlbums)
+                .extracting(AlbumDto::name)
+                .containsExactly("the eminem show");
+        assertThat(songifyCrudFacade.findAllSongs(Pageable.unpaged()))
+                .extracting(song -> song.genre().name())
+                .containsOnly("default");
+    }
+
     @Test
     @DisplayName("Should return album by id")
     public void should_return_album_by_id() {
@@ -311,10 +425,11 @@ class SongifyCrudFacadeTest {
         songifyCrudFacade.addArtistToAlbum(artistId2, albumId);
         assertThat(songifyCrudFacade.countArtistByAlbumId(albumId)).isEqualTo(2);
         // when
-        songifyCrudFacade.deleteArtistByIdWithAlbumsAndSongs(artistId);
+        ArtistDeletionResultDto result = songifyCrudFacade.deleteArtistByIdWithAlbumsAndSongs(artistId);
         // then
-        AlbumInfo album = songifyCrudFacade.findAlbumByIdWithArtistAndSongs(albumId);
-        Set<AlbumInfo.ArtistInfo> artists = album.getArtists();
+        assertThat(result).isEqualTo(new ArtistDeletionResultDto(artistId, 0, 0));
+        AlbumDetailsDto album = songifyCrudFacade.findAlbumByIdWithArtistAndSongs(albumId);
+        Set<ArtistDto> artists = album.artists();
         assertThat(artists)
                 .extracting("id")
                 .containsOnly(artistId2);
@@ -377,12 +492,277 @@ class SongifyCrudFacadeTest {
         assertThat(songifyCrudFacade.findAllAlbums().size()).isEqualTo(2);
         assertThat(songifyCrudFacade.findAllSongs(Pageable.unpaged()).size()).isEqualTo(4);
         // when
-        songifyCrudFacade.deleteArtistByIdWithAlbumsAndSongs(artistId);
+        ArtistDeletionResultDto result = songifyCrudFacade.deleteArtistByIdWithAlbumsAndSongs(artistId);
         // then
+        assertThat(result).isEqualTo(new ArtistDeletionResultDto(artistId, 4, 2));
         assertThat(songifyCrudFacade.findAllArtist(Pageable.unpaged())).isEmpty();
         assertThat(songifyCrudFacade.findAllAlbums()).isEmpty();
         assertThat(songifyCrudFacade.findAllSongs(Pageable.unpaged())).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should search songs, artists and albums ranked and paged When query matches their names")
+    public void should_search_songs_artists_and_albums_ranked_and_paged_when_query_matches_their_names() {
+        // given
+        songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("Queen").build());
+        SongDto queenSong = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("Killer Queen")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .songIds(Set.of(queenSong.id()))
+                .title("Queen II")
+                .build());
+        songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("Bohemian Rhapsody")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        // when
+        SearchPageDto firstPage = songifyCrudFacade.search("queen", 0, 2);
+        SearchPageDto secondPage = songifyCrudFacade.search("queen", 1, 2);
+        // then
+        assertThat(firstPage.results())
+                .extracting(SearchResultDto::type, SearchResultDto::name)
+                .containsExactly(
+                        tuple(SearchResultType.ARTIST, "Queen"),
+                        tuple(SearchResultType.ALBUM, "Queen II"));
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.results())
+                .extracting(SearchResultDto::type, SearchResultDto::name)
+                .containsExactly(tuple(SearchResultType.SONG, "Killer Queen"));
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(songifyCrudFacade.search(" ", 0, 2).results()).isEmpty();
+        assertThat(songifyCrudFacade.search("queen", Integer.MAX_VALUE, 50).results()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should suggest names by prefix alphabetically and follow renames and deletes When catalog changes")
+    public void should_suggest_names_by_prefix_and_follow_renames_and_deletes_when_catalog_changes() {
+        // given
+        ArtistDto metallica = songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("Metallica").build());
+        SongDto masterOfPuppets = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("Master of Puppets")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .songIds(Set.of(masterOfPuppets.id()))
+                .title("Metal Machine Music")
+                .build());
+        // when
+        List<AutocompleteSuggestionDto> beforeChanges = songifyCrudFacade.autocomplete("me", 10);
+        songifyCrudFacade.updateArtistNameById(metallica.id(), "Megadeth");
+        songifyCrudFacade.deleteSongById(masterOfPuppets.id());
+        List<AutocompleteSuggestionDto> afterChanges = songifyCrudFacade.autocomplete("M", 10);
+        // then
+        assertThat(beforeChanges)
+                .extracting(AutocompleteSuggestionDto::type, AutocompleteSuggestionDto::name)
+                .containsExactly(
+                        tuple(SearchResultType.ALBUM, "Metal Machine Music"),
+                        tuple(SearchResultType.ARTIST, "Metallica"));
+        assertThat(afterChanges)
+                .extracting(AutocompleteSuggestionDto::name)
+                .containsExactly("Megadeth", "Metal Machine Music");
+        assertThat(songifyCrudFacade.autocomplete("met", 1))
+                .extracting(AutocompleteSuggestionDto::name)
+                .containsExactly("Metal Machine Music");
+    }
+
+    @Test
+    @DisplayName("Should keep artists version tag stable When nothing changed and change it When an artist was renamed")
+    public void should_keep_artists_version_tag_stable_when_nothing_changed_and_change_it_when_artist_was_renamed() {
+        // given
+        ArtistDto artist = songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("Queen").build());
+        String artistsTag = songifyCrudFacade.findArtistsVersionTag(Pageable.unpaged());
+        // when
+        String artistsTagAgain = songifyCrudFacade.findArtistsVersionTag(Pageable.unpaged());
+        songifyCrudFacade.updateArtistNameById(artist.id(), "Queen + Adam Lambert");
+        // then
+        assertThat(artistsTagAgain).isEqualTo(artistsTag);
+        assertThat(songifyCrudFacade.findArtistsVersionTag(Pageable.unpaged())).isNotEqualTo(artistsTag);
+    }
+
+    @Test
+    @DisplayName("Should return songs in request order with not found markers When looking up songs by ids")
+    public void should_return_songs_in_request_order_with_not_found_markers_when_looking_up_songs_by_ids() {
+        // given
+        SongDto first = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("first")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        SongDto second = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("second")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        // when
+        List<SongLookupDto> songs = songifyCrudFacade.findSongsByIds(List.of(second.id(), 999L, first.id()));
+        // then
+        assertThat(songs)
+                .extracting(SongLookupDto::id, SongLookupDto::found)
+                .containsExactly(
+                        tuple(second.id(), true),
+                        tuple(999L, false),
+                        tuple(first.id(), true));
+        assertThat(songs.get(0).song().name()).isEqualTo("second");
+        assertThat(songs.get(0).song().genre().name()).isEqualTo("default");
+        assertThat(songs.get(1).song()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return song without genre When looking up songs by ids and song has no genre")
+    public void should_return_song_without_genre_when_looking_up_songs_by_ids_and_song_has_no_genre() {
+        // given
+        Song withoutGenre = songRepository.save(new Song("no genre", null, 200L, SongLanguage.ENGLISH));
+        // when
+        List<SongLookupDto> songs = songifyCrudFacade.findSongsByIds(List.of(withoutGenre.getId()));
+        // then
+        assertThat(songs)
+                .extracting(SongLookupDto::found)
+                .containsExactly(true);
+        assertThat(songs.get(0).song().name()).isEqualTo("no genre");
+        assertThat(songs.get(0).song().genre()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject lookup When more than 500 song ids were requested")
+    public void should_reject_lookup_when_more_than_500_song_ids_were_requested() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+        // when
+        Throwable throwable = catchThrowable(() -> songifyCrudFacade.findSongsByIds(ids));
+        // then
+        assertThat(throwable).isInstanceOf(TooManySongIdsException.class);
+        assertThat(throwable.getMessage()).isEqualTo("Can not look up more than 500 songs at once");
+    }
+
+    @Test
+    @DisplayName("Should return updated song with id and genre When song was partially updated")
+    public void should_return_updated_song_with_id_and_genre_when_song_was_partially_updated() {
+        // given
+        SongDto song = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("song1")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        // when
+        SongDto renamed = songifyCrudFacade.updateSongPartiallyById(song.id(), SongDto.builder().name("song2").build());
+        SongDto untouched = songifyCrudFacade.updateSongPartiallyById(song.id(), SongDto.builder().build());
+        // then
+        assertThat(renamed.id()).isEqualTo(song.id());
+        assertThat(renamed.name()).isEqualTo("song2");
+        assertThat(renamed.genre().name()).isEqualTo("default");
+        assertThat(untouched.name()).isEqualTo("song2");
+    }
+
+    @Test
+    @DisplayName("Should throw SongNotFoundException When updating or deleting song that does not exist")
+    public void should_throw_song_not_found_when_updating_or_deleting_song_that_does_not_exist() {
+        // given
+        assertThat(songifyCrudFacade.findAllSongs(Pageable.unpaged())).isEmpty();
+        // when
+        Throwable updateThrowable = catchThrowable(() -> songifyCrudFacade.updateSongById(0L, new SongDto(0L, "song", null)));
+        Throwable patchThrowable = catchThrowable(() -> songifyCrudFacade.updateSongPartiallyById(0L, SongDto.builder().name("song").build()));
+        Throwable deleteThrowable = catchThrowable(() -> songifyCrudFacade.deleteSongById(0L));
+        // then
+        assertThat(updateThrowable).isInstanceOf(SongNotFoundException.class);
+        assertThat(updateThrowable.getMessage()).isEqualTo("Song with id: 0 not found");
+        assertThat(patchThrowable).isInstanceOf(SongNotFoundException.class);
+        assertThat(deleteThrowable).isInstanceOf(SongNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should report every missing song at once When album is added with songs that do not exist")
+    public void should_report_every_missing_song_when_album_is_added_with_songs_that_do_not_exist() {
+        // given
+        SongDto song = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("song1")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        AlbumRequestDto album = AlbumRequestDto.builder()
+                .songIds(Set.of(song.id(), 7L, 5L))
+                .title("album title 1")
+                .build();
+        // when
+        Throwable throwable = catchThrowable(() -> songifyCrudFacade.addAlbumWithSong(album));
+        // then
+        assertThat(throwable).isInstanceOf(SongNotFoundException.class);
+        assertThat(throwable.getMessage()).isEqualTo("Songs with ids: [5, 7] not found");
+        assertThat(songifyCrudFacade.findAllAlbums()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should link artist and album once When artist was assigned to album twice")
+    public void should_link_artist_and_album_once_when_artist_was_assigned_to_album_twice() {
+        // given
+        ArtistDto artist = songifyCrudFacade.addArtist(ArtistRequestDto.builder().name("amigo").build());
+        SongDto song = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("song1")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        AlbumDto album = songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .songIds(Set.of(song.id()))
+                .title("album title 1")
+                .build());
+        // when
+        songifyCrudFacade.addArtistToAlbum(artist.id(), album.id());
+        songifyCrudFacade.addArtistToAlbum(artist.id(), album.id());
+        Throwable missingArtist = catchThrowable(() -> songifyCrudFacade.addArtistToAlbum(999L, album.id()));
+        Throwable missingAlbum = catchThrowable(() -> songifyCrudFacade.addArtistToAlbum(artist.id(), 999L));
+        // then
+        assertThat(songifyCrudFacade.countArtistByAlbumId(album.id())).isEqualTo(1);
+        assertThat(missingArtist).isInstanceOf(ArtistNotFoundException.class);
+        assertThat(missingAlbum).isInstanceOf(AlbumNotFoundException.class);
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should return album with all song ids When song was assigned to album")
+    public void should_return_album_with_all_song_ids_when_song_was_assigned_to_album() {
+        // given
+        SongDto song1 = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("song1")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        SongDto song2 = songifyCrudFacade.addSong(SongRequestDto.builder()
+                .name("song2")
+                .language(SongLanguageDto.ENGLISH)
+                .build());
+        AlbumDto album = songifyCrudFacade.addAlbumWithSong(AlbumRequestDto.builder()
+                .songIds(Set.of(song1.id()))
+                .title("album title 1")
+                .build());
+        // when
+        AlbumDto result = songifyCrudFacade.addSongToAlbum(album.id(), song2.id());
+        Throwable missingSong = catchThrowable(() -> songifyCrudFacade.addSongToAlbum(album.id(), 999L));
+        Throwable missingAlbum = catchThrowable(() -> songifyCrudFacade.addSongToAlbum(999L, song2.id()));
+        // then
+        assertThat(result.name()).isEqualTo("album title 1");
+        assertThat(result.songsIds()).containsExactlyInAnyOrder(song1.id(), song2.id());
+        assertThat(missingSong).isInstanceOf(SongNotFoundException.class);
+        assertThat(missingAlbum).isInstanceOf(AlbumNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve synthetic catalog with skewed album sizes When catalog was loaded into in-memory repositories")
+    public void should_serve_synthetic_catalog_with_skewed_album_sizes_when_catalog_was_loaded() {
+        // given
+        InMemoryAlbumRepository albums = new InMemoryAlbumRepository();
+        InMemorySongRepository songs = new InMemorySongRepository(albums);
+        InMemoryGenreRepository genres = new InMemoryGenreRepository();
+        InMemoryArtistRepository artists = new InMemoryArtistRepository(albums);
+        SongifyCrudFacade facade = SongifyCrudFacadeConfiguration.createSongifyCrud(songs, genres, artists, albums);
+        SyntheticCatalogSpec spec = SyntheticCatalogSpec.ofSongs(2_000);
+        // when
+        new SyntheticCatalogGenerator(spec)
+                .generate(new InMemorySyntheticCatalogLoader(songs, genres, artists, albums));
+        // then
+        Set<AlbumDto> allAlbums = facade.findAllAlbums();
+        List<Integer> albumSizes = allAlbums.stream()
+                .map(album -> album.songsIds().size())
+                .sorted()
+                .toList();
+        assertThat(allAlbums).hasSize(spec.albums());
+        assertThat(albumSizes.get(0)).isGreaterThanOrEqualTo(1);
+        assertThat(albumSizes.get(albumSizes.size() - 1)).isGreaterThan(10 * albumSizes.get(albumSizes.size() / 2));
+        assertThat(albumSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(2_000);
+        assertThat(facade.findAllArtist(Pageable.unpaged())).hasSize(spec.artists());
+        assertThat(facade.findSongDtoById(0L).genre().name()).startsWith("synthetic genre");
+    }
+}
@@ -0,0 +1,95 @@
+package com.songify.domain.crud;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic (per seed) catalog generator for scale testing. Rows are streamed into a {@link SyntheticCatalogSink},
+ * only per album and per artist weights are kept in memory, so catalogs of millions of songs can be generated.
+ * <p>
+ * Every album draws a target size from a Zipf distribution over {@code 1..MAX_ALBUM_SIZE}, every artist draws its
+ * popularity from a Zipf distribution over {@code 1..MAX_ARTIST_ALBUMS}. Each album gets one song and each artist
+ * one album first, the rest is spread in proportion to those weights: most albums are short, a few compilations
+ * are huge, and a handful of artists own a large share of the catalog. Names are built from a small vocabulary
+ * and repeat, which keeps search and autocomplete selectivity realistic.
+ */
+public class SyntheticCatalogGenerator {
+    private static final String[] WORDS = {
+            "love", "night", "heart", "fire", "dream", "light", "rain", "summer", "blue", "gold",
+            "river", "stone", "wild", "midnight", "city", "road", "shadow", "ocean", "star", "echo",
+            "silver", "storm", "ghost", "paradise", "neon", "velvet", "thunder", "honey", "desert", "crystal",
+            "moon", "sun", "winter", "angel", "broken", "electric", "forever", "golden", "lonely", "magic"
+    };
+    private static final Instant FIRST_RELEASE = Instant.parse("1960-01-01T00:00:00Z");
+    private static final int RELEASE_SPAN_DAYS = 365 * 64;
+    private static final int MAX_ALBUM_SIZE = 300;
+    private static final int MAX_ARTIST_ALBUMS = 200;
+
+    private final SyntheticCatalogSpec spec;
+    private final Random random;
+    private final WeightedSampler words;
+
+    public SyntheticCatalogGenerator(final SyntheticCatalogSpec spec) {
+        this.spec = spec;
+        this.random = new Random(spec.seed());
+        this.words = WeightedSampler.zipf(WORDS.length, 1.0, random);
+    }
+
+    public void generate(final SyntheticCatalogSink sink) {
+        for (int genre = 0; genre < spec.genres(); genre++) {
+            sink.genre(genre, "synthetic genre " + genre);
+        }
+        for (int artist = 0; artist < spec.artists(); artist++) {
+            sink.artist(artist, name(2) + " " + artist);
+        }
+        Instant[] albumReleases = new Instant[spec.albums()];
+        for (int album = 0; album < spec.albums(); album++) {
+            albumReleases[album] = FIRST_RELEASE.plus(random.nextInt(RELEASE_SPAN_DAYS), ChronoUnit.DAYS);
+            sink.album(album, name(3), albumReleases[album]);
+        }
+        WeightedSampler artists = skewedWeights(spec.artists(), MAX_ARTIST_ALBUMS, spec.artistPopularitySkew());
+        for (int album = 0; album < spec.albums(); album++) {
+            int artist = album < spec.artists() ? album : artists.sample();
+            sink.artistAlbum(artist, album);
+            if (spec.artists() > 1 && random.nextDouble() < spec.featuredArtistRatio()) {
+                sink.artistAlbum((artist + 1 + artists.sample() % (spec.artists() - 1)) % spec.artists(), album);
+            }
+        }
+        WeightedSampler albums = skewedWeights(spec.albums(), MAX_ALBUM_SIZE, spec.albumSizeSkew());
+        WeightedSampler genres = WeightedSampler.zipf(spec.genres(), 1.0, random);
+        SongLanguage[] languages = SongLanguage.values();
+        for (long song = 0; song < spec.songs(); song++) {
+            int album = song < spec.albums() ? (int) song : albums.sample();
+            sink.song(song,
+                    name(1 + random.nextInt(3)),
+                    albumReleases[album],
+                    120 + random.nextInt(300),
+                    language(languages),
+                    genres.sample(),
+                    album);
+        }
+    }
+
+    private WeightedSampler skewedWeights(final int count, final int maxWeight, final double skew) {
+        WeightedSampler weight = WeightedSampler.zipf(maxWeight, skew, random);
+        double[] weights = new double[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = weight.sample() + 1;
+        }
+        return new WeightedSampler(weights, random);
+    }
+
+    private SongLanguage language(final SongLanguage[] languages) {
+        int index = random.nextInt(languages.length * 2);
+        return index < languages.length ? languages[index] : SongLanguage.ENGLISH;
+    }
+
+    private String name(final int wordCount) {
+        return IntStream.range(0, wordCount)
+                .mapToObj(i -> WORDS[words.sample()])
+                .collect(Collectors.joining(" "));
+    }
+}
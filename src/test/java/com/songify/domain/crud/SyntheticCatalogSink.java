@@ -0,0 +1,19 @@
+package com.songify.domain.crud;
+
+import java.time.Instant;
+
+/**
+ * Receives generated rows in foreign key order: genres, artists, albums, artist album links, songs.
+ * Ids are dense and start at zero per table, loaders map them onto their own ids.
+ */
+public interface SyntheticCatalogSink {
+    void genre(long id, String name);
+
+    void artist(long id, String name);
+
+    void album(long id, String title, Instant releaseDate);
+
+    void artistAlbum(long artistId, long albumId);
+
+    void song(long id, String name, Instant releaseDate, long duration, SongLanguage language, long genreId, long albumId);
+}
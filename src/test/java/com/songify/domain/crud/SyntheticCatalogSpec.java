@@ -0,0 +1,31 @@
+package com.songify.domain.crud;
+
+/**
+ * Cardinalities and skew of a generated catalog. Album sizes and artist popularity follow a Zipf distribution,
+ * {@code featuredArtistRatio} is the share of albums that get a second artist.
+ */
+public record SyntheticCatalogSpec(
+        int genres,
+        int artists,
+        int albums,
+        long songs,
+        double albumSizeSkew,
+        double artistPopularitySkew,
+        double featuredArtistRatio,
+        long seed
+) {
+    public SyntheticCatalogSpec {
+        if (genres < 1 || artists < 1 || albums < 1 || songs < albums) {
+            throw new IllegalArgumentException("Catalog needs at least one genre, artist and album and a song per album");
+        }
+    }
+
+    /**
+     * Roughly the shape of a streaming catalog: ten songs per album on average, four albums per artist.
+     */
+    public static SyntheticCatalogSpec ofSongs(final long songs) {
+        int albums = (int) Math.max(1, songs / 10);
+        int artists = Math.max(1, albums / 4);
+        return new SyntheticCatalogSpec(50, artists, albums, songs, 1.1, 1.2, 0.1, 42L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.songify.domain.crud;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples indexes {@code 0..n-1} with probability proportional to their weight. The cumulative distribution is
+ * precomputed once, a sample is a binary search over it.
+ */
+class WeightedSampler {
+    private final double[] cumulative;
+    private final Random random;
+
+    WeightedSampler(final double[] weights, final Random random) {
+        if (weights.length < 1) {
+            throw new IllegalArgumentException("Weighted sampler needs at least one weight");
+        }
+        this.cumulative = new double[weights.length];
+        this.random = random;
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * Rank {@code k} (zero based) is drawn with probability proportional to {@code 1 / (k + 1)^exponent}.
+     */
+    static WeightedSampler zipf(final int n, final double exponent, final Random random) {
+        double[] weights = new double[n];
+        for (int rank = 0; rank < n; rank++) {
+            weights[rank] = 1.0 / Math.pow(rank + 1, exponent);
+        }
+        return new WeightedSampler(weights, random);
+    }
+
+    int sample() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int sampled = index >= 0 ? index : -index - 1;
+        return Math.min(sampled, cumulative.length - 1);
+    }
+}